@@ -0,0 +1,181 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency (additive increase, multiplicative decrease).
+ *
+ * Each call must acquire a permit before it runs. If the number of calls in flight has
+ * reached the current limit the call is rejected straight away rather than queued. When
+ * a call completes within the latency target, and the limit was actually being used,
+ * the limit grows by one. When a call is slower than the target, or fails with a
+ * congestion error, the limit is cut by the backoff ratio. The limit stays between
+ * the configured minimum and maximum.
+ *
+ * A call that uses several connections at once can take one permit for each of them.
+ */
+public class AdaptiveConcurrencyLimiter
+{
+	private static final double BACKOFF_RATIO = 0.75;
+
+	private final String name;
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyTargetNanos;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong rejected = new AtomicLong();
+	private volatile double limit;
+
+
+	/**
+	 * @param name - name of the priority class, used in messages
+	 * @param initialLimit - concurrency allowed at startup
+	 * @param minLimit - the limit is never cut below this
+	 * @param maxLimit - the limit never grows above this
+	 * @param latencyTargetMs - calls slower than this reduce the limit
+	 */
+	public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long latencyTargetMs)
+	{
+		if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+		{
+			throw new IllegalArgumentException("limiter " + name + " needs 1 <= min <= initial <= max");
+		}
+
+		this.name = name;
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+		this.limit = initialLimit;
+	}
+
+
+	/**
+	 * Take a permit for one call
+	 *
+	 * @return true if the call may run, false if it should be rejected
+	 */
+	public boolean tryAcquire()
+	{
+		return tryAcquire(1);
+	}
+
+
+	/**
+	 * Take several permits for one call
+	 *
+	 * @param permits - number of permits the call needs
+	 * @return true if the call may run, false if it should be rejected
+	 */
+	public boolean tryAcquire(int permits)
+	{
+		while (true)
+		{
+			int current = inFlight.get();
+			if (current + permits > (int) limit)
+			{
+				rejected.incrementAndGet();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + permits))
+			{
+				return true;
+			}
+		}
+	}
+
+
+	/**
+	 * Return the permit taken by tryAcquire and adjust the limit from the call's latency
+	 *
+	 * @param elapsedNanos - how long the call took
+	 * @param congested - true if the call failed in a way that indicates an overloaded database
+	 */
+	public void release(long elapsedNanos, boolean congested)
+	{
+		release(1, elapsedNanos, congested);
+	}
+
+
+	/**
+	 * Return the permits taken by tryAcquire(permits) and adjust the limit from the call's latency
+	 *
+	 * @param permits - number of permits taken
+	 * @param elapsedNanos - how long the call took
+	 * @param congested - true if the call failed in a way that indicates an overloaded database
+	 */
+	public void release(int permits, long elapsedNanos, boolean congested)
+	{
+		int current = inFlight.getAndAdd(-permits);
+
+		synchronized (this)
+		{
+			if (congested || elapsedNanos > latencyTargetNanos)
+			{
+				limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+			}
+			else if (current * 2 >= limit)
+			{
+				// Only grow while the limit is being used, so an idle class can't build up headroom
+				limit = Math.min(maxLimit, limit + 1);
+			}
+		}
+	}
+
+
+	/**
+	 * Put the limit back to its initial value, e.g. once slow calls made while the
+	 * application was warming up are no longer a guide to its normal latency
+	 */
+	public synchronized void reset()
+	{
+		limit = initialLimit;
+	}
+
+
+	/**
+	 * @return name of the priority class
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * @return the current concurrency limit
+	 */
+	public int getLimit()
+	{
+		return (int) limit;
+	}
+
+	/**
+	 * @return number of permits currently taken
+	 */
+	public int getInFlight()
+	{
+		return inFlight.get();
+	}
+
+	/**
+	 * @return number of calls rejected since startup
+	 */
+	public long getRejected()
+	{
+		return rejected.get();
+	}
+}
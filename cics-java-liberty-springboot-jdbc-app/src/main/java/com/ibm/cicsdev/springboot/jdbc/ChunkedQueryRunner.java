@@ -0,0 +1,193 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import javax.naming.NamingException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jndi.JndiTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Runs the chunks of a multi-row query, one after another or in parallel
+ *
+ * With employee.multiget.parallelism greater than 1 the chunks are shared between the
+ * calling thread and up to parallelism - 1 threads from the Liberty managed executor
+ * named by employee.multiget.executor-jndi-name. A managed executor is needed in CICS,
+ * because only its threads can use the JDBC type 2 driver; it requires the
+ * concurrent-3.0 feature in server.xml. The chunks run one after another when:
+ *
+ *   - parallelism is 1 (the default)
+ *   - the executor can't be found
+ *   - a transaction is active, as other threads can't take part in it
+ *
+ * The calling thread never waits for executor threads to start - when the executor is busy
+ * it runs the chunks itself and the queued work is cancelled.
+ *
+ * @Component Marks a class as a Spring managed bean
+ */
+@Component
+public class ChunkedQueryRunner
+{
+	private static final Logger LOG = LoggerFactory.getLogger(ChunkedQueryRunner.class);
+
+	@Value("${employee.multiget.parallelism:1}")
+	private int parallelism;
+
+	@Value("${employee.multiget.executor-jndi-name:java:comp/DefaultManagedExecutorService}")
+	private String executorJndiName;
+
+	private ExecutorService executor;
+
+
+	/**
+	 * Look up the managed executor when chunks are to run in parallel
+	 */
+	@PostConstruct
+	public void init()
+	{
+		if (parallelism <= 1)
+		{
+			return;
+		}
+
+		try
+		{
+			executor = new JndiTemplate().lookup(executorJndiName, ExecutorService.class);
+		}
+		catch (NamingException e)
+		{
+			LOG.warn("Executor {} not found, multi-row query chunks will run one after another", executorJndiName);
+		}
+	}
+
+
+	/**
+	 * @param chunks - the chunks to run
+	 * @param query - runs the query for one chunk
+	 * @return the results of each chunk, in chunk order
+	 */
+	public <C, R> List<R> run(List<C> chunks, Function<C, R> query)
+	{
+		int threads = Math.min(parallelism, chunks.size());
+		if (executor == null || threads <= 1 || TransactionSynchronizationManager.isActualTransactionActive())
+		{
+			List<R> results = new ArrayList<>(chunks.size());
+			for (C chunk : chunks)
+			{
+				results.add(query.apply(chunk));
+			}
+			return results;
+		}
+
+		// Each worker takes the next chunk not yet started until there are none left
+		List<R> results = new ArrayList<>(chunks.size());
+		for (int i = 0; i < chunks.size(); i++)
+		{
+			results.add(null);
+		}
+		AtomicInteger next = new AtomicInteger();
+		Runnable worker = () ->
+		{
+			for (int i = next.getAndIncrement(); i < chunks.size(); i = next.getAndIncrement())
+			{
+				results.set(i, query.apply(chunks.get(i)));
+			}
+		};
+
+		// Executor threads add their times to the Server-Timing header of the calling request.
+		// Each registers with the phaser while it runs, so the caller can wait for it, and
+		// hands back the first failure through the holder.
+		RequestTimings timings = RequestTimings.current();
+		Phaser running = new Phaser(1);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Runnable executorWorker = () ->
+		{
+			running.register();
+			RequestTimings.set(timings);
+			try
+			{
+				worker.run();
+			}
+			catch (RuntimeException | Error e)
+			{
+				failure.compareAndSet(null, e);
+				next.set(chunks.size());
+			}
+			finally
+			{
+				RequestTimings.clear();
+				running.arriveAndDeregister();
+			}
+		};
+
+		List<Future<?>> helpers = new ArrayList<>();
+		try
+		{
+			for (int i = 1; i < threads; i++)
+			{
+				try
+				{
+					helpers.add(executor.submit(executorWorker));
+				}
+				catch (RejectedExecutionException e)
+				{
+					// The executor is full - the threads already added run the remaining chunks
+					break;
+				}
+			}
+			worker.run();
+		}
+		catch (RuntimeException | Error e)
+		{
+			failure.compareAndSet(null, e);
+			next.set(chunks.size());
+		}
+		finally
+		{
+			// Every chunk has been started, so helpers still queued have nothing to do.
+			// Wait only for the ones running, so no connection is still in use once the
+			// caller's concurrency permits are released.
+			for (Future<?> helper : helpers)
+			{
+				helper.cancel(false);
+			}
+			running.arriveAndAwaitAdvance();
+		}
+
+		Throwable e = failure.get();
+		if (e instanceof RuntimeException)
+		{
+			throw (RuntimeException) e;
+		}
+		if (e instanceof Error)
+		{
+			throw (Error) e;
+		}
+
+		return results;
+	}
+}
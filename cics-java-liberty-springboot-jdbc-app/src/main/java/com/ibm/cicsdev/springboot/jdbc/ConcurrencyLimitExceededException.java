@@ -0,0 +1,33 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a call to EmployeeService is rejected by its concurrency limiter.
+ *
+ * @ResponseStatus Returns HTTP 503 to the REST caller, who may retry later
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ConcurrencyLimitExceededException extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * @param limiter - the limiter that rejected the call
+	 */
+	public ConcurrencyLimitExceededException(AdaptiveConcurrencyLimiter limiter)
+	{
+		super("too many concurrent " + limiter.getName() + " requests (limit " + limiter.getLimit() + "), try again later");
+	}
+}
@@ -13,13 +13,21 @@ package com.ibm.cicsdev.springboot.jdbc;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 
 /**
@@ -37,6 +45,10 @@ public class EmployeeRestController
 	@Autowired  
 	private EmployeeService employeeService;
 
+	// Most employee numbers accepted by one /listEmployees request
+	@Value("${employee.multiget.max-empnos:1000}")
+	private int maxEmpnos;
+
 	
 	/**
 	 * Root endpoint - returns date/time + usage information
@@ -53,8 +65,9 @@ public class EmployeeRestController
 		
 		return "<h1>Spring Boot JDBC Employee REST sample. Date/Time: " + myDateString + "</h1>"
 		+ "<h3>Usage:</h3>"
-		+ "<b>/allEmployees</b> - return a list of employees using a classic SELECT statement <br>"
+		+ "<b>/allEmployees</b> - return a list of employees using a classic SELECT statement (send Accept: application/cbor for CBOR) <br>"
 		+ "<b>/listEmployee/{empno}</b> - a list of employee records for the employee number provided <br>"
+		+ "<b>/listEmployees/{empno},{empno},...</b> - the employee records for each employee number provided <br>"
 		+ "<br> --- Update operations --- <br>"
 		+ "<b>/addEmployee/{firstName}/{lastName}</b> - add an employee <br>"				
 		+ "<b>/deleteEmployee/{empNo}</b> - delete an employee <br>"
@@ -69,11 +82,16 @@ public class EmployeeRestController
 	/**
 	 *  example url http://<server>:<port>/allEmployees
 	 *  
+	 *  Returns JSON, or CBOR if the request has an Accept: application/cbor header.
+	 *  Large responses are gzip or deflate compressed for clients that send Accept-Encoding.
+	 *  
+	 * @param response - the HTTP response
 	 * @return a list of employees
 	 */
-	@GetMapping({"/allEmployees","/allEmployees/"})
-	public List<Employee> getAllRows() 
+	@GetMapping(value = {"/allEmployees","/allEmployees/"}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+	public List<Employee> getAllRows(HttpServletResponse response) 
 	{
+		varyOnAccept(response);
 		return employeeService.selectAll();
 	}
 	
@@ -81,16 +99,43 @@ public class EmployeeRestController
 	/**
 	 * example url http://<server>:<port>/listEmployee/000100
 	 * 
+	 * Returns JSON, or CBOR if the request has an Accept: application/cbor header
+	 * 
 	 * @param empno - employee number
+	 * @param response - the HTTP response
 	 * @return a list of employee records for the passed parameter number
 	 */
-	@GetMapping("/listEmployee/{empno}")
-	public List<Employee> listEmployee(@PathVariable String empno) 
+	@GetMapping(value = "/listEmployee/{empno}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+	public List<Employee> listEmployee(@PathVariable String empno, HttpServletResponse response) 
 	{
+		varyOnAccept(response);
 		return employeeService.selectWhereEmpno(empno);
 	}
 	
 	
+	/**
+	 * example url http://<server>:<port>/listEmployees/000010,000020,000030
+	 * 
+	 * Look up many employees in one request. Duplicate numbers are ignored and numbers
+	 * that are not found are left out of the result.
+	 * 
+	 * @param empnos - comma separated employee numbers
+	 * @param response - the HTTP response
+	 * @return the employee records found, keyed by employee number
+	 */
+	@GetMapping(value = "/listEmployees/{empnos}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+	public Map<String, Employee> listEmployees(@PathVariable List<String> empnos, HttpServletResponse response) 
+	{
+		varyOnAccept(response);
+		if (empnos.size() > maxEmpnos)
+		{
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "at most " + maxEmpnos + " employee numbers can be listed at once");
+		}
+		
+		return employeeService.selectWhereEmpnoIn(empnos);
+	}
+	
+	
 	/**
 	 *  example url http://<server>:<port>/addEmployee/Tony/Fitzgerald
 	 *  
@@ -191,4 +236,13 @@ public class EmployeeRestController
 		return result;
 	}
 	
+	
+	/**
+	 * The JSON and CBOR endpoints choose their body from the Accept header, so caches
+	 * must keep the two apart
+	 */
+	private static void varyOnAccept(HttpServletResponse response)
+	{
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+	}
 }
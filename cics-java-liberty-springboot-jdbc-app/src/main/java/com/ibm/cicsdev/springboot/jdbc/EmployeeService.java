@@ -12,12 +12,23 @@ package com.ibm.cicsdev.springboot.jdbc;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+
 /**
  * Service class which retrieves the data requested by the REST controller
  *    makes use of jdbcTemplate to retrieve the data from table EMP
@@ -33,11 +44,73 @@ public class EmployeeService
 	@Autowired
 	private JdbcTemplate jdbcTemplate;	
 
+	// Sends reads to the read-only datasource, when one is configured
+	@Autowired
+	private ReadReplicaRouter readRouter;
+
+	// Runs the chunks of a multi-employee query
+	@Autowired
+	private ChunkedQueryRunner chunkRunner;
+
+	// Largest IN list used by selectWhereEmpnoIn - well below the Db2 limit on parameter markers
+	@Value("${employee.multiget.chunk-size:100}")
+	private int chunkSize;
+
+	// The IN list sizes used by selectWhereEmpnoIn - chunk-size, chunk-size/2 ... 1
+	private List<Integer> inListSizes;
+
+	// Maps a row of the EMP table to an Employee
+	private final RowMapper<Employee> employeeRowMapper = (rs, rowNum) ->
+		new Employee(
+				rs.getString("EMPNO"),
+				rs.getString("FIRSTNME"),
+				rs.getString("MIDINIT"),
+				rs.getString("LASTNAME"),
+				rs.getString("WORKDEPT"),
+				rs.getString("PHONENO"),
+				rs.getDate("HIREDATE"),
+				rs.getString("JOB"),
+				rs.getInt("EDLEVEL"),
+				rs.getString("SEX"),
+				rs.getString("BIRTHDATE"),
+				rs.getLong("SALARY"),
+				rs.getLong("BONUS"),
+				rs.getLong("COMM"));
+
 	// Create a timestamp (used when adding an Employee)
 	private DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd"); 
 	private LocalDateTime now = LocalDateTime.now();
 	
 	
+	/**
+	 * Check the multi-employee settings - a chunk size below 1 would never finish splitting the list
+	 */
+	@PostConstruct
+	public void init()
+	{
+		if (chunkSize < 1)
+		{
+			throw new IllegalArgumentException("employee.multiget.chunk-size must be at least 1, not " + chunkSize);
+		}
+
+		List<Integer> sizes = new ArrayList<>();
+		for (int size = chunkSize; size >= 1; size = size / 2)
+		{
+			sizes.add(size);
+		}
+		inListSizes = Collections.unmodifiableList(sizes);
+	}
+	
+	
+	/**
+	 * @return the IN list sizes selectWhereEmpnoIn uses, largest first - the only statements it prepares
+	 */
+	public List<Integer> getInListSizes()
+	{
+		return inListSizes;
+	}
+	
+	
 	/**
 	 * Select all rows from the Employee table
 	 * 
@@ -49,25 +122,10 @@ public class EmployeeService
 		// setup the select SQL
 		String sql = "SELECT * FROM emp";
 
-		// run the query
-		return jdbcTemplate.query(
+		// run the query - on the read-only datasource if there is one
+		return readRouter.read(null, template -> template.query(
 				sql,
-				(rs, rowNum) ->
-				new Employee(
-						rs.getString("EMPNO"),
-						rs.getString("FIRSTNME"),
-						rs.getString("MIDINIT"),
-						rs.getString("LASTNAME"),
-						rs.getString("WORKDEPT"),
-						rs.getString("PHONENO"),
-						rs.getDate("HIREDATE"),
-						rs.getString("JOB"),
-						rs.getInt("EDLEVEL"),
-						rs.getString("SEX"),
-						rs.getString("BIRTHDATE"),
-						rs.getLong("SALARY"),
-						rs.getLong("BONUS"),
-						rs.getLong("COMM")));
+				employeeRowMapper));
 	}
 
 		
@@ -79,25 +137,79 @@ public class EmployeeService
 	{
 		String sql = "SELECT * FROM emp where empno = ?";
 
-		return jdbcTemplate.query(
+		return readRouter.read(empNo, template -> template.query(
 				sql,
 				new Object [] {empNo},
-				(rs, rowNum) ->
-				new Employee(
-						rs.getString("EMPNO"),
-						rs.getString("FIRSTNME"),
-						rs.getString("MIDINIT"),
-						rs.getString("LASTNAME"),
-						rs.getString("WORKDEPT"),
-						rs.getString("PHONENO"),
-						rs.getDate("HIREDATE"),
-						rs.getString("JOB"),
-						rs.getInt("EDLEVEL"),
-						rs.getString("SEX"),
-						rs.getString("BIRTHDATE"),
-						rs.getLong("SALARY"),
-						rs.getLong("BONUS"),
-						rs.getLong("COMM")));
+				employeeRowMapper));
+	}
+
+
+	/**
+	 * Select the employees with any of the given employee numbers
+	 * 
+	 * Duplicates are removed, then the numbers are looked up with IN lists of at most
+	 * employee.multiget.chunk-size entries. The last, short, list is padded by repeating
+	 * its final number up to the next of chunk-size, chunk-size/2, chunk-size/4 ... 1, so
+	 * only a few different statements are ever prepared and they stay in the statement cache.
+	 * 
+	 * @param empNos - employee numbers to look up
+	 * @return the employees found, keyed by employee number, in the order first asked for
+	 */
+	public Map<String, Employee> selectWhereEmpnoIn(Collection<String> empNos)
+	{
+		// remove duplicates, keeping the order they were asked for
+		List<String> unique = new ArrayList<>(new LinkedHashSet<>(empNos));
+
+		// split into chunks of fixed sizes
+		List<List<String>> chunks = new ArrayList<>();
+		for (int start = 0; start < unique.size(); start += chunkSize)
+		{
+			List<String> chunk = new ArrayList<>(unique.subList(start, Math.min(start + chunkSize, unique.size())));
+
+			// pad up to the smallest IN list size that holds the chunk
+			int size = chunkSize;
+			for (int candidate : inListSizes)
+			{
+				if (candidate >= chunk.size())
+				{
+					size = candidate;
+				}
+			}
+			while (chunk.size() < size)
+			{
+				chunk.add(chunk.get(chunk.size() - 1));
+			}
+			chunks.add(chunk);
+		}
+
+		// run the chunks - on the read-only datasource if there is one
+		List<List<Employee>> results = chunkRunner.run(chunks, chunk ->
+		{
+			String sql = "SELECT * FROM emp where empno in (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+			return readRouter.readMany(chunk, template -> template.query(sql, employeeRowMapper, chunk.toArray()));
+		});
+
+		// key the results by employee number, in the order they were asked for
+		Map<String, Employee> found = new HashMap<>();
+		for (List<Employee> rows : results)
+		{
+			for (Employee employee : rows)
+			{
+				found.put(employee.getEmpNo().trim(), employee);
+			}
+		}
+
+		Map<String, Employee> byEmpNo = new LinkedHashMap<>();
+		for (String empNo : unique)
+		{
+			Employee employee = found.get(empNo.trim());
+			if (employee != null)
+			{
+				byEmpNo.put(empNo, employee);
+			}
+		}
+
+		return byEmpNo;
 	}
 
 
@@ -154,6 +266,7 @@ public class EmployeeService
 		// numRows is the number of rows inserted - will be zero if the insert fails
 		if (numRows > 0) 
 		{
+			readRouter.recordWrite(empno);
 			return "employee " + empno + " added";
 		}
 		
@@ -176,6 +289,7 @@ public class EmployeeService
 		// numRows is the number of rows deleted - will be zero if the delete fails
 		if (numRows > 0) 
 		{
+			readRouter.recordWrite(empNo);
 			return "employee " + empNo + " deleted";
 		}
 		
@@ -199,6 +313,7 @@ public class EmployeeService
 		// numRows is the number of rows updated - will be zero if the update fails   
 		if (numRows > 0) 
 		{
+			readRouter.recordWrite(empNo);
 			return "employee " + empNo + " salary changed to " + newSalary;
 		}
 		
@@ -0,0 +1,183 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Limits concurrent calls to EmployeeService, with a separate AdaptiveConcurrencyLimiter
+ * for full table reads (selectAll), multi-employee reads (selectWhereEmpnoIn) and all other calls.
+ * A multi-employee read takes one permit for each connection it may use.
+ * Calls over the limit fail with ConcurrencyLimitExceededException (HTTP 503).
+ *
+ * @Component Marks a class as a Spring managed bean - as a BeanPostProcessor it wraps the EmployeeService bean
+ */
+@Component
+public class EmployeeServiceLimiter implements BeanPostProcessor
+{
+	// EmployeeService methods that read the whole table
+	private static final Set<String> SCAN_METHODS = Set.of("selectAll");
+
+	// EmployeeService methods that read many employees in chunks
+	private static final Set<String> MULTIGET_METHODS = Set.of("selectWhereEmpnoIn");
+
+	private final boolean enabled;
+	private final AdaptiveConcurrencyLimiter scanLimiter;
+	private final AdaptiveConcurrencyLimiter multigetLimiter;
+	private final AdaptiveConcurrencyLimiter pointLimiter;
+
+	// Permits taken by each multiget call - the most connections it can use at once
+	private final int multigetPermits;
+
+
+	/**
+	 * @throws IllegalArgumentException if the multiget minimum is below employee.multiget.parallelism
+	 */
+	public EmployeeServiceLimiter(
+			@Value("${employee.limiter.enabled:true}") boolean enabled,
+			@Value("${employee.limiter.scan.initial-limit:2}") int scanInitial,
+			@Value("${employee.limiter.scan.min-limit:1}") int scanMin,
+			@Value("${employee.limiter.scan.max-limit:4}") int scanMax,
+			@Value("${employee.limiter.scan.latency-target-ms:2000}") long scanTarget,
+			@Value("${employee.limiter.multiget.initial-limit:2}") int multigetInitial,
+			@Value("${employee.limiter.multiget.min-limit:1}") int multigetMin,
+			@Value("${employee.limiter.multiget.max-limit:4}") int multigetMax,
+			@Value("${employee.limiter.multiget.latency-target-ms:2000}") long multigetTarget,
+			@Value("${employee.multiget.parallelism:1}") int multigetParallelism,
+			@Value("${employee.limiter.point.initial-limit:10}") int pointInitial,
+			@Value("${employee.limiter.point.min-limit:2}") int pointMin,
+			@Value("${employee.limiter.point.max-limit:40}") int pointMax,
+			@Value("${employee.limiter.point.latency-target-ms:250}") long pointTarget)
+	{
+		this.enabled = enabled;
+		this.scanLimiter = new AdaptiveConcurrencyLimiter("scan", scanInitial, scanMin, scanMax, scanTarget);
+		this.multigetLimiter = new AdaptiveConcurrencyLimiter("multiget", multigetInitial, multigetMin, multigetMax, multigetTarget);
+		this.multigetPermits = Math.max(1, multigetParallelism);
+		if (multigetMin < multigetPermits)
+		{
+			throw new IllegalArgumentException("employee.limiter.multiget.min-limit must be at least employee.multiget.parallelism");
+		}
+		this.pointLimiter = new AdaptiveConcurrencyLimiter("point", pointInitial, pointMin, pointMax, pointTarget);
+	}
+
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName)
+	{
+		if (enabled && bean instanceof EmployeeService)
+		{
+			ProxyFactory factory = new ProxyFactory(bean);
+			factory.setProxyTargetClass(true);
+			factory.addAdvice(new LimitInterceptor());
+			return factory.getProxy();
+		}
+
+		return bean;
+	}
+
+
+	/**
+	 * Put all the limits back to their initial values
+	 */
+	public void reset()
+	{
+		scanLimiter.reset();
+		multigetLimiter.reset();
+		pointLimiter.reset();
+	}
+
+
+	/**
+	 * @return the limiter for full table reads
+	 */
+	public AdaptiveConcurrencyLimiter getScanLimiter()
+	{
+		return scanLimiter;
+	}
+
+	/**
+	 * @return the limiter for multi-employee reads
+	 */
+	public AdaptiveConcurrencyLimiter getMultigetLimiter()
+	{
+		return multigetLimiter;
+	}
+
+	/**
+	 * @return the limiter for single row reads and updates
+	 */
+	public AdaptiveConcurrencyLimiter getPointLimiter()
+	{
+		return pointLimiter;
+	}
+
+
+	/**
+	 * Interceptor that takes a permit from the matching limiter around each service call
+	 */
+	private class LimitInterceptor implements MethodInterceptor
+	{
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable
+		{
+			// Leave methods inherited from Object, and getters that don't use the database, alone
+			if (ReflectionUtils.isObjectMethod(invocation.getMethod()) || invocation.getMethod().getName().startsWith("get"))
+			{
+				return invocation.proceed();
+			}
+
+			String name = invocation.getMethod().getName();
+			AdaptiveConcurrencyLimiter limiter = pointLimiter;
+			int permits = 1;
+			if (SCAN_METHODS.contains(name))
+			{
+				limiter = scanLimiter;
+			}
+			else if (MULTIGET_METHODS.contains(name))
+			{
+				limiter = multigetLimiter;
+				permits = multigetPermits;
+			}
+
+			if (!limiter.tryAcquire(permits))
+			{
+				throw new ConcurrencyLimitExceededException(limiter);
+			}
+
+			long start = System.nanoTime();
+			boolean congested = false;
+			try
+			{
+				return invocation.proceed();
+			}
+			catch (TransientDataAccessException | CannotGetJdbcConnectionException e)
+			{
+				// Timeouts, lock waits and pool exhaustion mean the database is overloaded
+				congested = true;
+				throw e;
+			}
+			finally
+			{
+				limiter.release(permits, System.nanoTime() - start, congested);
+			}
+		}
+	}
+}
@@ -0,0 +1,384 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the JdbcTemplate calls made by EmployeeService
+ *
+ * The datasource is wrapped to time connection acquisition, and the JdbcTemplate is
+ * proxied to time each statement and the row mapping done within it. The times are
+ * added to the RequestTimings of the current request, if it has any, and statements slower than
+ * employee.jdbc.slow-query-threshold-ms are logged with the shape of their bind
+ * parameters (types only, values are never logged) and the number of rows affected.
+ *
+ * @Component Marks a class as a Spring managed bean - as a BeanPostProcessor it can replace other beans as they are created
+ */
+@Component
+public class JdbcTimingPostProcessor implements BeanPostProcessor
+{
+	private static final Logger LOG = LoggerFactory.getLogger(JdbcTimingPostProcessor.class);
+
+	// Statements taking longer than this are logged, a negative value turns the log off
+	@Value("${employee.jdbc.slow-query-threshold-ms:500}")
+	private long slowQueryThresholdMs;
+
+	// Connection time of the statement running on this thread, set only while it runs
+	private static final ThreadLocal<long[]> STATEMENT_CONNECTION = new ThreadLocal<>();
+
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName)
+	{
+		if (bean instanceof JdbcTemplate)
+		{
+			return timed((JdbcTemplate) bean);
+		}
+
+		if (bean instanceof DataSource && !(bean instanceof TimedDataSource))
+		{
+			return timed((DataSource) bean);
+		}
+
+		return bean;
+	}
+
+
+	/**
+	 * Also used for templates created outside the application context, e.g. for the read replica
+	 *
+	 * @param jdbcTemplate - template to time
+	 * @return a proxy that times each statement run by the template
+	 */
+	JdbcTemplate timed(JdbcTemplate jdbcTemplate)
+	{
+		ProxyFactory factory = new ProxyFactory(jdbcTemplate);
+		factory.setProxyTargetClass(true);
+		factory.addAdvice(new StatementTimer());
+		return (JdbcTemplate) factory.getProxy();
+	}
+
+
+	/**
+	 * @param dataSource - datasource to time
+	 * @return a datasource that times connection acquisition
+	 */
+	DataSource timed(DataSource dataSource)
+	{
+		return new TimedDataSource(dataSource);
+	}
+
+
+	/**
+	 * Datasource that records how long each connection took to obtain from the pool
+	 */
+	static class TimedDataSource extends DelegatingDataSource
+	{
+		TimedDataSource(DataSource target)
+		{
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException
+		{
+			long start = System.nanoTime();
+			try
+			{
+				return super.getConnection();
+			}
+			finally
+			{
+				addConnection(System.nanoTime() - start);
+			}
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException
+		{
+			long start = System.nanoTime();
+			try
+			{
+				return super.getConnection(username, password);
+			}
+			finally
+			{
+				addConnection(System.nanoTime() - start);
+			}
+		}
+	}
+
+
+	private static void addConnection(long nanos)
+	{
+		long[] statement = STATEMENT_CONNECTION.get();
+		if (statement != null)
+		{
+			statement[0] += nanos;
+		}
+
+		RequestTimings timings = RequestTimings.current();
+		if (timings != null)
+		{
+			timings.addConnection(nanos);
+		}
+	}
+
+
+	/**
+	 * Interceptor for the public JdbcTemplate methods. Calls the template makes to itself
+	 * are not intercepted, so each statement is only timed once.
+	 */
+	private class StatementTimer implements MethodInterceptor
+	{
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable
+		{
+			// Only time the methods that run a statement, not getters and setters
+			String name = invocation.getMethod().getName();
+			boolean statement = name.startsWith("query") || name.equals("update") || name.equals("batchUpdate")
+					|| name.equals("execute") || name.equals("call");
+			if (!statement)
+			{
+				return invocation.proceed();
+			}
+
+			Object[] args = invocation.getArguments();
+
+			// Time the row mapping by wrapping any RowMapper passed in
+			TimedRowMapper<?> mapper = null;
+			for (int i = 0; i < args.length; i++)
+			{
+				if (args[i] instanceof RowMapper)
+				{
+					mapper = new TimedRowMapper<>((RowMapper<?>) args[i]);
+					args[i] = mapper;
+				}
+			}
+
+			long[] connectionNanos = new long[1];
+			long[] outer = STATEMENT_CONNECTION.get();
+			STATEMENT_CONNECTION.set(connectionNanos);
+			long start = System.nanoTime();
+
+			Object result = null;
+			try
+			{
+				result = invocation.proceed();
+				return result;
+			}
+			finally
+			{
+				long elapsed = System.nanoTime() - start;
+				if (outer == null)
+				{
+					STATEMENT_CONNECTION.remove();
+				}
+				else
+				{
+					STATEMENT_CONNECTION.set(outer);
+				}
+
+				long connection = connectionNanos[0];
+				long mapping = mapper == null ? 0 : mapper.nanos;
+				long execute = Math.max(0, elapsed - connection - mapping);
+
+				RequestTimings timings = RequestTimings.current();
+				if (timings != null)
+				{
+					timings.addMapping(mapping);
+					timings.addExecute(execute);
+				}
+
+				if (slowQueryThresholdMs >= 0 && elapsed >= TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs))
+				{
+					LOG.warn("Slow statement {} ms (connection {} ms, execute {} ms, mapping {} ms) rows={} params={} sql={}",
+							millis(elapsed), millis(connection), millis(execute), millis(mapping),
+							rowCount(result, mapper), parameterShape(args), sql(args, invocation));
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Row mapper that times, and counts, the rows it maps
+	 */
+	static class TimedRowMapper<T> implements RowMapper<T>
+	{
+		private final RowMapper<T> target;
+		private long nanos;
+		private int rows;
+
+		TimedRowMapper(RowMapper<T> target)
+		{
+			this.target = target;
+		}
+
+		@Override
+		public T mapRow(ResultSet rs, int rowNum) throws SQLException
+		{
+			long start = System.nanoTime();
+			try
+			{
+				return target.mapRow(rs, rowNum);
+			}
+			finally
+			{
+				nanos += System.nanoTime() - start;
+				rows++;
+			}
+		}
+	}
+
+
+	/**
+	 * @return the SQL text of the statement, or the kind of callback used to create it
+	 */
+	private static String sql(Object[] args, MethodInvocation invocation)
+	{
+		if (args.length > 0 && args[0] instanceof String)
+		{
+			return (String) args[0];
+		}
+
+		// batchUpdate(String...) - the first statement and how many there are
+		if (args.length > 0 && args[0] instanceof String[])
+		{
+			String[] statements = (String[]) args[0];
+			return statements.length == 0 ? "" : statements[0] + " (batch of " + statements.length + " statements)";
+		}
+
+		return invocation.getMethod().getName() + "(" + (args.length > 0 && args[0] != null ? args[0].getClass().getSimpleName() : "") + ")";
+	}
+
+
+	/**
+	 * @return the types of the bind parameters, with runs of the same type counted, e.g. [String x3, Integer],
+	 *         prefixed with the number of rows for a batch, e.g. 50 x [String, Integer]
+	 */
+	static String parameterShape(Object[] args)
+	{
+		// The SQL is always the first argument, so a String[] there is batchUpdate(String...) not parameters
+		for (int i = 1; i < args.length; i++)
+		{
+			if (args[i] instanceof Object[])
+			{
+				return shape((Object[]) args[i]);
+			}
+
+			// batchUpdate(String, List<Object[]>) - every row has the same shape, so show the first
+			if (args[i] instanceof List && !((List<?>) args[i]).isEmpty() && ((List<?>) args[i]).get(0) instanceof Object[])
+			{
+				List<?> batch = (List<?>) args[i];
+				return batch.size() + " x " + shape((Object[]) batch.get(0));
+			}
+		}
+
+		return "[]";
+	}
+
+
+	private static String shape(Object[] params)
+	{
+		StringJoiner shape = new StringJoiner(", ", "[", "]");
+		String previous = null;
+		int run = 0;
+		for (Object param : params)
+		{
+			String type = param == null ? "null" : param.getClass().getSimpleName();
+			if (!type.equals(previous) && previous != null)
+			{
+				shape.add(run > 1 ? previous + " x" + run : previous);
+				run = 0;
+			}
+			previous = type;
+			run++;
+		}
+		if (previous != null)
+		{
+			shape.add(run > 1 ? previous + " x" + run : previous);
+		}
+		return shape.toString();
+	}
+
+
+	/**
+	 * @return rows returned or updated by the statement, -1 if not known
+	 */
+	static int rowCount(Object result, TimedRowMapper<?> mapper)
+	{
+		if (mapper != null)
+		{
+			return mapper.rows;
+		}
+		if (result instanceof List)
+		{
+			return ((List<?>) result).size();
+		}
+		if (result instanceof Integer)
+		{
+			return (Integer) result;
+		}
+		if (result instanceof int[])
+		{
+			return sum((int[]) result);
+		}
+		if (result instanceof int[][])
+		{
+			int total = 0;
+			for (int[] counts : (int[][]) result)
+			{
+				total += sum(counts);
+			}
+			return total;
+		}
+
+		return -1;
+	}
+
+
+	private static int sum(int[] counts)
+	{
+		int total = 0;
+		for (int count : counts)
+		{
+			total += count;
+		}
+		return total;
+	}
+
+
+	private static String millis(long nanos)
+	{
+		return String.format("%.3f", nanos / 1_000_000.0);
+	}
+}
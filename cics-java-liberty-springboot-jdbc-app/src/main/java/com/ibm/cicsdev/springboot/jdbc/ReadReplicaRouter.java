@@ -0,0 +1,257 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.DataSourceLookupFailureException;
+import org.springframework.jdbc.datasource.lookup.JndiDataSourceLookup;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Chooses the JdbcTemplate used for EmployeeService reads
+ *
+ * When employee.datasource.read-jndi-name names a read-only datasource (a Db2 replica, or
+ * another member of a data sharing group), reads are sent there to take load off the
+ * primary jdbc/jdbcDataSource. Reads still go to the primary when:
+ *
+ *   - a transaction is active, so @Transactional work sees its own updates
+ *   - the employee (or, for full table reads, any employee) was updated within the last
+ *     employee.datasource.read-your-writes-ms milliseconds
+ *   - the replica failed recently - a failed read is retried on the primary and the
+ *     replica is left alone for employee.datasource.read-retry-after-ms milliseconds
+ *
+ * All updates use the primary. The replica template has the same spring.jdbc.template.*
+ * settings (fetch size, max rows, query timeout) as the primary one.
+ *
+ * @Component Marks a class as a Spring managed bean
+ */
+@Component
+public class ReadReplicaRouter
+{
+	private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+	// Clear out expired read-your-writes entries once the map gets this big
+	private static final int RECENT_WRITES_CLEANUP_SIZE = 10000;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JdbcTimingPostProcessor jdbcTiming;
+
+	// JNDI name of the read-only datasource, blank to send all reads to the primary
+	@Value("${employee.datasource.read-jndi-name:}")
+	private String readJndiName;
+
+	// After an update, reads of the same employee go to the primary for this long (0 turns this off)
+	@Value("${employee.datasource.read-your-writes-ms:0}")
+	private long readYourWritesMs;
+
+	// After a replica failure, reads go to the primary for this long before the replica is tried again
+	@Value("${employee.datasource.read-retry-after-ms:30000}")
+	private long readRetryAfterMs;
+
+	private JdbcTemplate replicaJdbcTemplate;
+
+	// Time of the last update to each employee, and to any employee, in System.nanoTime() terms
+	private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+	private volatile long lastWrite;
+	private volatile boolean written;
+
+	private volatile long replicaDownUntil;
+	private volatile boolean replicaDown;
+
+
+	/**
+	 * Look up the read-only datasource, if one is configured
+	 */
+	@PostConstruct
+	public void init()
+	{
+		if (readJndiName == null || readJndiName.isBlank())
+		{
+			return;
+		}
+
+		try
+		{
+			DataSource replica = new JndiDataSourceLookup().getDataSource(readJndiName);
+			replicaJdbcTemplate = jdbcTiming.timed(configuredLike(jdbcTemplate, new JdbcTemplate(jdbcTiming.timed(replica))));
+			LOG.info("Routing EmployeeService reads to {}", readJndiName);
+		}
+		catch (DataSourceLookupFailureException e)
+		{
+			LOG.warn("Read datasource {} not found, all reads will use the primary datasource", readJndiName, e);
+		}
+	}
+
+
+	/**
+	 * Run a read on the replica if it can be used, otherwise on the primary
+	 *
+	 * @param empNo - the employee being read, or null for a read of the whole table
+	 * @param query - the query to run against the chosen template
+	 * @return the result of the query
+	 */
+	public <T> T read(String empNo, Function<JdbcTemplate, T> query)
+	{
+		return readMany(empNo == null ? null : List.of(empNo), query);
+	}
+
+
+	/**
+	 * Run a read of several employees on the replica if it can be used, otherwise on the primary
+	 *
+	 * @param empNos - the employees being read, or null for a read of the whole table
+	 * @param query - the query to run against the chosen template
+	 * @return the result of the query
+	 */
+	public <T> T readMany(Collection<String> empNos, Function<JdbcTemplate, T> query)
+	{
+		if (!useReplica(empNos))
+		{
+			return query.apply(jdbcTemplate);
+		}
+
+		try
+		{
+			return query.apply(replicaJdbcTemplate);
+		}
+		catch (DataAccessResourceFailureException | TransientDataAccessResourceException e)
+		{
+			// Fall back to the primary and give the replica time to recover
+			replicaDownUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readRetryAfterMs);
+			replicaDown = true;
+			LOG.warn("Read from {} failed, using the primary datasource for the next {} ms", readJndiName, readRetryAfterMs, e);
+
+			return query.apply(jdbcTemplate);
+		}
+	}
+
+
+	/**
+	 * Note an update so that following reads of the same employee see it. Inside a
+	 * transaction the update is only noted once it commits, as until then the primary
+	 * is used anyway and a rollback leaves nothing for the replica to catch up on.
+	 *
+	 * @param empNo - the employee that was added, updated or deleted
+	 */
+	public void recordWrite(String empNo)
+	{
+		if (replicaJdbcTemplate == null || readYourWritesMs <= 0)
+		{
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+		{
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+			{
+				@Override
+				public void afterCommit()
+				{
+					noteWrite(empNo);
+				}
+			});
+		}
+		else
+		{
+			noteWrite(empNo);
+		}
+	}
+
+
+	private void noteWrite(String empNo)
+	{
+		long now = System.nanoTime();
+		lastWrite = now;
+		written = true;
+		recentWrites.put(empNo, now);
+
+		if (recentWrites.size() > RECENT_WRITES_CLEANUP_SIZE)
+		{
+			long window = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+			recentWrites.values().removeIf(time -> now - time > window);
+		}
+	}
+
+
+	/**
+	 * Copy the spring.jdbc.template.* settings applied to the primary template
+	 *
+	 * @return the replica template
+	 */
+	private static JdbcTemplate configuredLike(JdbcTemplate primary, JdbcTemplate replica)
+	{
+		replica.setFetchSize(primary.getFetchSize());
+		replica.setMaxRows(primary.getMaxRows());
+		replica.setQueryTimeout(primary.getQueryTimeout());
+		replica.setIgnoreWarnings(primary.isIgnoreWarnings());
+		replica.setSkipResultsProcessing(primary.isSkipResultsProcessing());
+		replica.setSkipUndeclaredResults(primary.isSkipUndeclaredResults());
+		replica.setResultsMapCaseInsensitive(primary.isResultsMapCaseInsensitive());
+		return replica;
+	}
+
+
+	private boolean useReplica(Collection<String> empNos)
+	{
+		if (replicaJdbcTemplate == null || TransactionSynchronizationManager.isActualTransactionActive())
+		{
+			return false;
+		}
+
+		long now = System.nanoTime();
+		if (replicaDown && now - replicaDownUntil < 0)
+		{
+			return false;
+		}
+
+		if (readYourWritesMs > 0)
+		{
+			long window = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+			if (empNos == null)
+			{
+				return !written || now - lastWrite > window;
+			}
+
+			for (String empNo : empNos)
+			{
+				Long writeTime = recentWrites.get(empNo);
+				if (writeTime != null && now - writeTime <= window)
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,57 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Turns requests away with HTTP 503 until the application is accepting traffic
+ *
+ * Spring marks the application as accepting traffic once it is ready and StartupWarmup
+ * has finished, so load balancers and clients that retry on 503 are kept off a cold
+ * instance.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ReadinessFilter extends OncePerRequestFilter
+{
+	@Autowired
+	private ApplicationAvailability availability;
+
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException
+	{
+		if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC)
+		{
+			response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "application is starting");
+			return;
+		}
+
+		chain.doFilter(request, response);
+	}
+}
@@ -0,0 +1,166 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+
+/**
+ * Time spent in each phase of the current request, held per thread.
+ *
+ * The phases are filled in as the request runs - connection acquisition by the timed
+ * datasource, SQL execution and row mapping by the JdbcTemplate interceptor and JSON
+ * serialization by the message converter - and reported by ServerTimingFilter.
+ *
+ * Timings are only recorded while ServerTimingFilter has started them for the request,
+ * and the filter clears them when the request completes, so nothing is left behind on
+ * pooled threads. Threads working on part of the request, such as the parallel chunks
+ * run by ChunkedQueryRunner, join in with set() and leave with clear(). Their times are
+ * added together, so db-exec can be longer than the whole request.
+ *
+ * All times are in nanoseconds.
+ */
+public final class RequestTimings
+{
+	private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+	private long connectionNanos;
+	private long executeNanos;
+	private long mappingNanos;
+	private long serializeNanos;
+	private int statements;
+
+
+	private RequestTimings()
+	{
+	}
+
+
+	/**
+	 * Start recording timings for the request running on this thread
+	 *
+	 * @return the new timings
+	 */
+	public static RequestTimings start()
+	{
+		RequestTimings timings = new RequestTimings();
+		CURRENT.set(timings);
+		return timings;
+	}
+
+
+	/**
+	 * @return the timings for the request running on this thread, or null if they are not being recorded
+	 */
+	public static RequestTimings current()
+	{
+		return CURRENT.get();
+	}
+
+
+	/**
+	 * Record times from this thread into the timings of a request running on another thread
+	 *
+	 * @param timings - the request's timings, may be null
+	 */
+	public static void set(RequestTimings timings)
+	{
+		if (timings == null)
+		{
+			CURRENT.remove();
+		}
+		else
+		{
+			CURRENT.set(timings);
+		}
+	}
+
+
+	/**
+	 * Stop recording timings on this thread
+	 */
+	public static void clear()
+	{
+		CURRENT.remove();
+	}
+
+
+	/**
+	 * @param nanos - time spent waiting for a pooled connection
+	 */
+	public synchronized void addConnection(long nanos)
+	{
+		connectionNanos += nanos;
+	}
+
+	/**
+	 * @param nanos - time spent executing a statement, excluding row mapping
+	 */
+	public synchronized void addExecute(long nanos)
+	{
+		executeNanos += nanos;
+		statements++;
+	}
+
+	/**
+	 * @param nanos - time spent mapping result set rows to objects
+	 */
+	public synchronized void addMapping(long nanos)
+	{
+		mappingNanos += nanos;
+	}
+
+	/**
+	 * @param nanos - time spent writing the response body
+	 */
+	public synchronized void addSerialize(long nanos)
+	{
+		serializeNanos += nanos;
+	}
+
+	/**
+	 * @return total connection acquisition time
+	 */
+	public synchronized long getConnectionNanos()
+	{
+		return connectionNanos;
+	}
+
+	/**
+	 * @return total statement execution time
+	 */
+	public synchronized long getExecuteNanos()
+	{
+		return executeNanos;
+	}
+
+	/**
+	 * @return total row mapping time
+	 */
+	public synchronized long getMappingNanos()
+	{
+		return mappingNanos;
+	}
+
+	/**
+	 * @return total response serialization time
+	 */
+	public synchronized long getSerializeNanos()
+	{
+		return serializeNanos;
+	}
+
+	/**
+	 * @return number of statements run
+	 */
+	public synchronized int getStatements()
+	{
+		return statements;
+	}
+}
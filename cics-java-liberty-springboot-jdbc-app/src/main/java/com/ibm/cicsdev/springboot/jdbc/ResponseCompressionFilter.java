@@ -0,0 +1,166 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compresses REST responses with gzip or deflate when the client accepts it
+ *
+ * Only responses of at least employee.compression.min-response-size bytes are compressed,
+ * as small bodies such as the update messages would gain nothing. The body is buffered
+ * until the request completes and then compressed in one go - ServerTimingFilter buffers
+ * it anyway to send its header - and sent with its compressed Content-Length. Empty bodies
+ * (HEAD, 204, 304) and bodies the application has already encoded are sent as they are.
+ *
+ * This runs in the application so it works the same on Liberty and embedded Tomcat.
+ * It is ordered ahead of ServerTimingFilter, so the Server-Timing header is still sent.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class ResponseCompressionFilter extends OncePerRequestFilter
+{
+	@Value("${employee.compression.enabled:true}")
+	private boolean enabled;
+
+	@Value("${employee.compression.min-response-size:2048}")
+	private int minResponseSize;
+
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request)
+	{
+		return !enabled;
+	}
+
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException
+	{
+		// Caches must keep compressed and uncompressed responses apart
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		// No body is sent for HEAD, so there is nothing worth compressing
+		String encoding = encoding(request);
+		if (encoding == null || HttpMethod.HEAD.matches(request.getMethod()))
+		{
+			chain.doFilter(request, response);
+			return;
+		}
+
+		ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+		boolean compressed = false;
+		try
+		{
+			chain.doFilter(request, buffered);
+			compressed = compress(response, buffered, encoding);
+		}
+		finally
+		{
+			if (!compressed)
+			{
+				buffered.copyBodyToResponse();
+			}
+		}
+	}
+
+
+	/**
+	 * Send the buffered body compressed, if it is worth compressing
+	 *
+	 * @return true if the body was sent, false if it is to be sent as it is
+	 */
+	private boolean compress(HttpServletResponse response, ContentCachingResponseWrapper buffered, String encoding)
+			throws IOException
+	{
+		int size = buffered.getContentSize();
+		if (size == 0 || size < minResponseSize || response.isCommitted()
+				|| response.getHeader(HttpHeaders.CONTENT_ENCODING) != null)
+		{
+			return false;
+		}
+
+		byte[] body = compress(buffered.getContentAsByteArray(), encoding);
+		response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+		return true;
+	}
+
+
+	/**
+	 * @return the body compressed with the given encoding
+	 */
+	static byte[] compress(byte[] body, String encoding) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+		try (DeflaterOutputStream compressor = encoding.equals("gzip") ? new GZIPOutputStream(out) : new DeflaterOutputStream(out))
+		{
+			compressor.write(body);
+		}
+
+		return out.toByteArray();
+	}
+
+
+	/**
+	 * @return "gzip" or "deflate" if the client accepts one of them, gzip preferred, otherwise null
+	 */
+	static String encoding(HttpServletRequest request)
+	{
+		String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (accept == null)
+		{
+			return null;
+		}
+
+		boolean deflate = false;
+		for (String entry : accept.toLowerCase(Locale.ROOT).split(","))
+		{
+			String[] parts = entry.trim().split(";");
+			boolean refused = parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?");
+			if (refused)
+			{
+				continue;
+			}
+			String coding = parts[0].trim();
+			if (coding.equals("gzip"))
+			{
+				return "gzip";
+			}
+			if (coding.equals("deflate"))
+			{
+				deflate = true;
+			}
+		}
+
+		return deflate ? "deflate" : null;
+	}
+}
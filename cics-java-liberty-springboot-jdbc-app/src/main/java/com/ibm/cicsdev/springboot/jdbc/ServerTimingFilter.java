@@ -0,0 +1,93 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Adds a Server-Timing header to each REST response, breaking the request time down into
+ *
+ *   db-conn   - waiting for connections from jdbc/jdbcDataSource
+ *   db-exec   - running SQL statements (desc gives the number of statements)
+ *   db-map    - mapping result set rows to Employee objects
+ *   serialize - writing the response body
+ *   total     - the whole request, as seen by the application
+ *
+ * e.g. Server-Timing: db-conn;dur=0.4, db-exec;dur=12.1;desc="1 statements", db-map;dur=3.2, serialize;dur=5.0, total;dur=21.7
+ *
+ * The header has to be sent before the body, so the body is buffered until the request
+ * completes. Set employee.server-timing.enabled=false to turn this off - no timings are
+ * recorded then.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter
+{
+	@Value("${employee.server-timing.enabled:true}")
+	private boolean enabled;
+
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request)
+	{
+		return !enabled;
+	}
+
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException
+	{
+		RequestTimings timings = RequestTimings.start();
+		ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+		long start = System.nanoTime();
+
+		try
+		{
+			chain.doFilter(request, buffered);
+
+			buffered.setHeader("Server-Timing", header(timings, System.nanoTime() - start));
+		}
+		finally
+		{
+			buffered.copyBodyToResponse();
+			RequestTimings.clear();
+		}
+	}
+
+
+	/**
+	 * @return the Server-Timing header value for the timings and the total request time
+	 */
+	static String header(RequestTimings timings, long totalNanos)
+	{
+		return "db-conn;dur=" + millis(timings.getConnectionNanos())
+				+ ", db-exec;dur=" + millis(timings.getExecuteNanos()) + ";desc=\"" + timings.getStatements() + " statements\""
+				+ ", db-map;dur=" + millis(timings.getMappingNanos())
+				+ ", serialize;dur=" + millis(timings.getSerializeNanos())
+				+ ", total;dur=" + millis(totalNanos);
+	}
+
+
+	private static String millis(long nanos)
+	{
+		return String.format("%.3f", nanos / 1_000_000.0);
+	}
+}
@@ -0,0 +1,124 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Replaces the JSON and CBOR message converters with ones that record how long they spend
+ * serializing each response, for the serialize phase of the Server-Timing header.
+ *
+ * @Configuration Marks a class as a source of bean definitions and Spring MVC customizations
+ */
+@Configuration
+public class ServerTimingWebConfig implements WebMvcConfigurer
+{
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters)
+	{
+		for (int i = 0; i < converters.size(); i++)
+		{
+			if (converters.get(i) instanceof MappingJackson2HttpMessageConverter && !(converters.get(i) instanceof TimedJsonConverter))
+			{
+				MappingJackson2HttpMessageConverter json = (MappingJackson2HttpMessageConverter) converters.get(i);
+				converters.set(i, new TimedJsonConverter(json));
+			}
+			else if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter && !(converters.get(i) instanceof TimedCborConverter))
+			{
+				MappingJackson2CborHttpMessageConverter cbor = (MappingJackson2CborHttpMessageConverter) converters.get(i);
+				converters.set(i, new TimedCborConverter(cbor));
+			}
+		}
+	}
+
+
+	/**
+	 * JSON converter sharing the ObjectMapper of the one it replaces, adding the time
+	 * taken to write the body to the current RequestTimings
+	 */
+	static class TimedJsonConverter extends MappingJackson2HttpMessageConverter
+	{
+		TimedJsonConverter(MappingJackson2HttpMessageConverter original)
+		{
+			super(original.getObjectMapper());
+			setSupportedMediaTypes(original.getSupportedMediaTypes());
+		}
+
+		@Override
+		protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+				throws IOException, HttpMessageNotWritableException
+		{
+			timedWrite(() -> super.writeInternal(object, type, outputMessage));
+		}
+	}
+
+
+	/**
+	 * CBOR converter sharing the ObjectMapper of the one it replaces, adding the time
+	 * taken to write the body to the current RequestTimings
+	 */
+	static class TimedCborConverter extends MappingJackson2CborHttpMessageConverter
+	{
+		TimedCborConverter(MappingJackson2CborHttpMessageConverter original)
+		{
+			super(original.getObjectMapper());
+			setSupportedMediaTypes(original.getSupportedMediaTypes());
+		}
+
+		@Override
+		protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+				throws IOException, HttpMessageNotWritableException
+		{
+			timedWrite(() -> super.writeInternal(object, type, outputMessage));
+		}
+	}
+
+
+	/**
+	 * Writes a body in a converter
+	 */
+	@FunctionalInterface
+	interface BodyWriter
+	{
+		void write() throws IOException;
+	}
+
+
+	/**
+	 * Run the write, adding the time it takes to the current RequestTimings
+	 */
+	static void timedWrite(BodyWriter writer) throws IOException
+	{
+		long start = System.nanoTime();
+		try
+		{
+			writer.write();
+		}
+		finally
+		{
+			RequestTimings timings = RequestTimings.current();
+			if (timings != null)
+			{
+				timings.addSerialize(System.nanoTime() - start);
+			}
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Warms the application up before it takes traffic
+ *
+ * Runs when the application is ready, before Spring marks it as accepting traffic
+ * (ReadinessFilter turns requests away with HTTP 503 until then):
+ *
+ *   - opens employee.warmup.connections connections, so the jdbc/jdbcDataSource pool holds that many
+ *   - runs the EmployeeService queries employee.warmup.iterations times and serializes the
+ *     results to JSON, so the row mapping and serialization code is compiled by the JIT
+ *   - runs selectWhereEmpnoIn once for each IN list size it uses, so Db2 prepares those statements
+ *
+ * then puts the concurrency limits back to their initial values, as the slow first calls
+ * would otherwise have cut them. Warm-up stops early after employee.warmup.max-duration-ms,
+ * and a database error ends it without stopping the application from starting.
+ *
+ * @Component Marks a class as a Spring managed bean
+ */
+@Component
+public class StartupWarmup
+{
+	private static final Logger LOG = LoggerFactory.getLogger(StartupWarmup.class);
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeServiceLimiter limiter;
+
+	@Value("${employee.warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${employee.warmup.connections:10}")
+	private int connections;
+
+	@Value("${employee.warmup.iterations:200}")
+	private int iterations;
+
+	// Full table reads are much heavier, so they are only run this many times
+	@Value("${employee.warmup.select-all-iterations:3}")
+	private int selectAllIterations;
+
+	// An employee number that exists in the EMP table
+	@Value("${employee.warmup.empno:000010}")
+	private String empNo;
+
+	@Value("${employee.warmup.max-duration-ms:60000}")
+	private long maxDurationMs;
+
+
+	/**
+	 * Run the warm-up - the application is not marked as accepting traffic until this returns
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp()
+	{
+		if (!enabled)
+		{
+			return;
+		}
+
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+		LOG.info("Warm-up starting");
+
+		// Connections are counted as they open, so a failure part way still logs how many did
+		List<Connection> opened = new ArrayList<>(connections);
+		long connectionsNanos = 0;
+		int queries = 0;
+		try
+		{
+			long connectionsStart = System.nanoTime();
+			try
+			{
+				openConnections(opened);
+			}
+			finally
+			{
+				connectionsNanos = System.nanoTime() - connectionsStart;
+			}
+			queries = runQueries(deadline);
+		}
+		catch (DataAccessException | SQLException | JsonProcessingException e)
+		{
+			LOG.warn("Warm-up stopped early after {} queries", queries, e);
+		}
+		finally
+		{
+			limiter.reset();
+		}
+
+		long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		LOG.info("Warm-up finished in {} ms ({} connections opened in {} ms, {} queries run)",
+				durationMs, opened.size(), TimeUnit.NANOSECONDS.toMillis(connectionsNanos), queries);
+	}
+
+
+	/**
+	 * Hold the connections open together, so the pool has to create each one
+	 *
+	 * @param open - the connections are added to this list as they open, and closed before returning
+	 */
+	private void openConnections(List<Connection> open) throws SQLException
+	{
+		try
+		{
+			for (int i = 0; i < connections; i++)
+			{
+				open.add(dataSource.getConnection());
+			}
+		}
+		finally
+		{
+			for (Connection connection : open)
+			{
+				connection.close();
+			}
+		}
+	}
+
+
+	/**
+	 * @return the number of queries run
+	 */
+	private int runQueries(long deadline) throws JsonProcessingException
+	{
+		int queries = 0;
+
+		// each IN list size used by selectWhereEmpnoIn
+		for (int size : employeeService.getInListSizes())
+		{
+			if (System.nanoTime() >= deadline)
+			{
+				break;
+			}
+
+			List<String> empNos = new ArrayList<>(size);
+			empNos.add(empNo);
+			for (int i = 1; i < size; i++)
+			{
+				empNos.add(String.format("W%05d", i));
+			}
+			objectMapper.writeValueAsBytes(employeeService.selectWhereEmpnoIn(empNos));
+			queries++;
+		}
+
+		for (int i = 0; i < selectAllIterations && System.nanoTime() < deadline; i++)
+		{
+			objectMapper.writeValueAsBytes(employeeService.selectAll());
+			queries++;
+		}
+
+		for (int i = 0; i < iterations && System.nanoTime() < deadline; i++)
+		{
+			objectMapper.writeValueAsBytes(employeeService.selectWhereEmpno(empNo));
+			queries++;
+		}
+
+		return queries;
+	}
+}
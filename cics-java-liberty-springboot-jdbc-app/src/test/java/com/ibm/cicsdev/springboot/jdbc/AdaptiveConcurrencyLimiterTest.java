@@ -0,0 +1,182 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the limit arithmetic of AdaptiveConcurrencyLimiter
+ */
+public class AdaptiveConcurrencyLimiterTest
+{
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+
+	private static AdaptiveConcurrencyLimiter limiter(int initial, int min, int max)
+	{
+		return new AdaptiveConcurrencyLimiter("test", initial, min, max, 100);
+	}
+
+
+	private static void acquire(AdaptiveConcurrencyLimiter limiter, int permits)
+	{
+		for (int i = 0; i < permits; i++)
+		{
+			assertTrue(limiter.tryAcquire());
+		}
+	}
+
+
+	@Test
+	public void rejectsCallsOverTheLimit()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 4);
+
+		acquire(limiter, 2);
+		assertFalse(limiter.tryAcquire());
+		assertEquals(2, limiter.getInFlight());
+		assertEquals(1, limiter.getRejected());
+
+		limiter.release(FAST, false);
+		assertTrue(limiter.tryAcquire());
+	}
+
+
+	@Test
+	public void callsCanTakeSeveralPermits()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 4);
+
+		assertTrue(limiter.tryAcquire(3));
+		assertFalse(limiter.tryAcquire(2));
+		assertTrue(limiter.tryAcquire(1));
+
+		limiter.release(3, FAST, false);
+		assertEquals(1, limiter.getInFlight());
+	}
+
+
+	@Test
+	public void slowCallCutsLimitByBackoffRatio()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 1, 10);
+
+		acquire(limiter, 1);
+		limiter.release(SLOW, false);
+
+		assertEquals(6, limiter.getLimit());
+	}
+
+
+	@Test
+	public void congestedCallCutsLimitEvenWhenFast()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 1, 10);
+
+		acquire(limiter, 1);
+		limiter.release(FAST, true);
+
+		assertEquals(6, limiter.getLimit());
+	}
+
+
+	@Test
+	public void limitIsNotCutBelowMinimum()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(3, 2, 10);
+
+		for (int i = 0; i < 5; i++)
+		{
+			acquire(limiter, 1);
+			limiter.release(SLOW, false);
+		}
+
+		assertEquals(2, limiter.getLimit());
+	}
+
+
+	@Test
+	public void fastCallGrowsLimitWhenHalfUsed()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10);
+
+		// two in flight out of four - the released call counts the in-flight total before it left
+		acquire(limiter, 2);
+		limiter.release(FAST, false);
+
+		assertEquals(5, limiter.getLimit());
+	}
+
+
+	@Test
+	public void fastCallDoesNotGrowLimitWhenLittleUsed()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10);
+
+		for (int i = 0; i < 5; i++)
+		{
+			acquire(limiter, 1);
+			limiter.release(FAST, false);
+		}
+
+		assertEquals(4, limiter.getLimit());
+	}
+
+
+	@Test
+	public void limitIsNotGrownAboveMaximum()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5);
+
+		for (int i = 0; i < 5; i++)
+		{
+			acquire(limiter, 4);
+			for (int j = 0; j < 4; j++)
+			{
+				limiter.release(FAST, false);
+			}
+		}
+
+		assertEquals(5, limiter.getLimit());
+	}
+
+
+	@Test
+	public void resetRestoresInitialLimit()
+	{
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 1, 10);
+
+		acquire(limiter, 1);
+		limiter.release(SLOW, false);
+		limiter.reset();
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+
+	@Test
+	public void rejectsInconsistentLimits()
+	{
+		assertThrows(IllegalArgumentException.class, () -> limiter(1, 0, 4));
+		assertThrows(IllegalArgumentException.class, () -> limiter(2, 3, 4));
+		assertThrows(IllegalArgumentException.class, () -> limiter(5, 1, 4));
+		assertThrows(IllegalArgumentException.class, () -> limiter(2, 2, 1));
+	}
+}
@@ -0,0 +1,155 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+/**
+ * Tests ChunkedQueryRunner with a plain executor in place of the Liberty managed executor
+ */
+public class ChunkedQueryRunnerTest
+{
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final ChunkedQueryRunner runner = new ChunkedQueryRunner();
+
+
+	public ChunkedQueryRunnerTest()
+	{
+		ReflectionTestUtils.setField(runner, "parallelism", 3);
+		ReflectionTestUtils.setField(runner, "executor", executor);
+	}
+
+
+	@AfterEach
+	public void shutdown()
+	{
+		executor.shutdownNow();
+	}
+
+
+	@Test
+	public void resultsAreInChunkOrder()
+	{
+		List<Integer> chunks = List.of(1, 2, 3, 4, 5, 6, 7);
+
+		assertEquals(List.of(10, 20, 30, 40, 50, 60, 70), runner.run(chunks, chunk -> chunk * 10));
+	}
+
+
+	@Test
+	public void failureWaitsForRunningChunks()
+	{
+		AtomicInteger running = new AtomicInteger();
+		List<String> chunks = List.of("slow", "fail", "slow", "slow", "slow");
+
+		assertThrows(QueryTimeoutException.class, () -> runner.run(chunks, chunk ->
+		{
+			if (chunk.equals("fail"))
+			{
+				throw new QueryTimeoutException("timed out");
+			}
+
+			running.incrementAndGet();
+			try
+			{
+				Thread.sleep(200);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			finally
+			{
+				running.decrementAndGet();
+			}
+			return chunk;
+		}));
+
+		// no chunk may still be holding a connection once the caller has its exception
+		assertEquals(0, running.get());
+	}
+
+
+	/**
+	 * @return a one thread executor kept busy until the latch is released
+	 */
+	private static ExecutorService busy(ExecutorService executor, CountDownLatch release)
+	{
+		executor.execute(() ->
+		{
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		});
+		return executor;
+	}
+
+
+	@Test
+	public void busyExecutorDoesNotDelayTheCaller()
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService single = busy(Executors.newSingleThreadExecutor(), release);
+		ReflectionTestUtils.setField(runner, "parallelism", 2);
+		ReflectionTestUtils.setField(runner, "executor", single);
+		try
+		{
+			// the helper stays queued, so the caller runs every chunk and does not wait for it
+			assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertEquals(List.of(10, 20, 30), runner.run(List.of(1, 2, 3), chunk -> chunk * 10)));
+		}
+		finally
+		{
+			release.countDown();
+			single.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void rejectedHelperIsNotAFailure()
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService full = busy(new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>()), release);
+		ReflectionTestUtils.setField(runner, "executor", full);
+		try
+		{
+			assertEquals(List.of(10, 20, 30), runner.run(List.of(1, 2, 3), chunk -> chunk * 10));
+		}
+		finally
+		{
+			release.countDown();
+			full.shutdownNow();
+		}
+	}
+}
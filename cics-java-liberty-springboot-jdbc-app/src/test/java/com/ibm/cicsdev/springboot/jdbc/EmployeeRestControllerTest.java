@@ -0,0 +1,67 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+
+/**
+ * Tests the content negotiation headers of the EmployeeRestController read endpoints
+ */
+public class EmployeeRestControllerTest
+{
+	private final MockMvc mvc;
+
+
+	public EmployeeRestControllerTest()
+	{
+		EmployeeRestController controller = new EmployeeRestController();
+		ReflectionTestUtils.setField(controller, "employeeService", new EmployeeServiceLimiterTest.StubEmployeeService());
+		ReflectionTestUtils.setField(controller, "maxEmpnos", 10);
+		mvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+
+	@Test
+	public void jsonAndCborResponsesVaryOnAccept() throws Exception
+	{
+		for (String path : new String[] { "/allEmployees", "/listEmployee/000010", "/listEmployees/000010,000020" })
+		{
+			mvc.perform(get(path).accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+					.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+			mvc.perform(get(path).accept(MediaType.APPLICATION_CBOR))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+					.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+		}
+	}
+
+
+	@Test
+	public void singleTypeResponsesDoNotVary() throws Exception
+	{
+		mvc.perform(get("/"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.VARY));
+	}
+}
@@ -0,0 +1,172 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+
+/**
+ * Tests how EmployeeServiceLimiter sorts EmployeeService calls into priority classes
+ * and which failures it treats as congestion
+ */
+public class EmployeeServiceLimiterTest
+{
+	private final EmployeeServiceLimiter limiter = limiter(true, 1);
+	private final StubEmployeeService stub = new StubEmployeeService();
+	private final EmployeeService service = (EmployeeService) limiter.postProcessAfterInitialization(stub, "employeeService");
+
+
+	/**
+	 * @param parallelism - employee.multiget.parallelism
+	 * @return limiter with scan limits 2 (1-4), multiget 3 (parallelism-6) and point 10 (2-40),
+	 *         and latency targets long enough that no test call counts as slow
+	 */
+	private static EmployeeServiceLimiter limiter(boolean enabled, int parallelism)
+	{
+		return new EmployeeServiceLimiter(enabled, 2, 1, 4, 60000, 3, parallelism, 6, 60000, parallelism, 10, 2, 40, 60000);
+	}
+
+
+	/**
+	 * EmployeeService with the database calls replaced, failing with the given exception if set
+	 */
+	static class StubEmployeeService extends EmployeeService
+	{
+		RuntimeException failure;
+
+		@Override
+		public List<Employee> selectAll()
+		{
+			return result();
+		}
+
+		@Override
+		public List<Employee> selectWhereEmpno(String empNo)
+		{
+			return result();
+		}
+
+		@Override
+		public Map<String, Employee> selectWhereEmpnoIn(Collection<String> empNos)
+		{
+			result();
+			return Collections.emptyMap();
+		}
+
+		private List<Employee> result()
+		{
+			if (failure != null)
+			{
+				throw failure;
+			}
+			return Collections.emptyList();
+		}
+	}
+
+
+	@Test
+	public void timeoutCutsLimitOfItsClassOnly()
+	{
+		stub.failure = new QueryTimeoutException("timed out");
+
+		assertThrows(QueryTimeoutException.class, () -> service.selectWhereEmpno("000010"));
+
+		assertEquals(7, limiter.getPointLimiter().getLimit());
+		assertEquals(2, limiter.getScanLimiter().getLimit());
+	}
+
+
+	@Test
+	public void connectionFailureCutsScanLimit()
+	{
+		stub.failure = new CannotGetJdbcConnectionException("pool exhausted");
+
+		assertThrows(CannotGetJdbcConnectionException.class, () -> service.selectAll());
+
+		assertEquals(1, limiter.getScanLimiter().getLimit());
+		assertEquals(10, limiter.getPointLimiter().getLimit());
+	}
+
+
+	@Test
+	public void otherFailuresDoNotCutLimit()
+	{
+		stub.failure = new DataIntegrityViolationException("duplicate key");
+
+		assertThrows(DataIntegrityViolationException.class, () -> service.selectWhereEmpno("000010"));
+
+		assertEquals(10, limiter.getPointLimiter().getLimit());
+		assertEquals(0, limiter.getPointLimiter().getInFlight());
+	}
+
+
+	@Test
+	public void callsOverTheLimitAreRejected()
+	{
+		for (int i = 0; i < 10; i++)
+		{
+			assertTrue(limiter.getPointLimiter().tryAcquire());
+		}
+
+		assertThrows(ConcurrencyLimitExceededException.class, () -> service.selectWhereEmpno("000010"));
+
+		// scans have their own limit
+		assertEquals(0, service.selectAll().size());
+	}
+
+
+	@Test
+	public void multigetTakesOnePermitPerConnection()
+	{
+		EmployeeServiceLimiter parallel = limiter(true, 3);
+		StubEmployeeService target = new StubEmployeeService();
+		EmployeeService proxied = (EmployeeService) parallel.postProcessAfterInitialization(target, "employeeService");
+
+		// a call needs all three permits, so one taken elsewhere blocks it
+		assertTrue(parallel.getMultigetLimiter().tryAcquire(1));
+		assertThrows(ConcurrencyLimitExceededException.class, () -> proxied.selectWhereEmpnoIn(List.of("000010")));
+		parallel.getMultigetLimiter().release(1, 0, false);
+
+		assertEquals(0, proxied.selectWhereEmpnoIn(List.of("000010")).size());
+		assertEquals(0, parallel.getMultigetLimiter().getInFlight());
+		assertEquals(10, parallel.getPointLimiter().getLimit());
+	}
+
+
+	@Test
+	public void multigetMinimumMustAllowOneCall()
+	{
+		assertThrows(IllegalArgumentException.class,
+				() -> new EmployeeServiceLimiter(true, 2, 1, 4, 60000, 3, 1, 6, 60000, 2, 10, 2, 40, 60000));
+	}
+
+
+	@Test
+	public void disabledLimiterLeavesServiceAlone()
+	{
+		EmployeeServiceLimiter disabled = limiter(false, 1);
+
+		assertSame(stub, disabled.postProcessAfterInitialization(stub, "employeeService"));
+	}
+}
@@ -0,0 +1,89 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests how JdbcTimingPostProcessor describes a statement in the slow statement log
+ */
+public class JdbcTimingPostProcessorTest
+{
+	private static final String SQL = "UPDATE EMP SET SALARY = ? WHERE EMPNO = ?";
+
+
+	@Test
+	public void parameterShapeCountsRunsOfTheSameType()
+	{
+		Object[] args = { SQL, new Object[] { "A", "B", "C", 1, null } };
+
+		assertEquals("[String x3, Integer, null]", JdbcTimingPostProcessor.parameterShape(args));
+	}
+
+
+	@Test
+	public void parameterShapeWithoutParameters()
+	{
+		assertEquals("[]", JdbcTimingPostProcessor.parameterShape(new Object[] { SQL }));
+		assertEquals("[]", JdbcTimingPostProcessor.parameterShape(new Object[] { SQL, new Object[0] }));
+	}
+
+
+	@Test
+	public void parameterShapeOfBatchShowsRowCount()
+	{
+		List<Object[]> batch = List.of(
+				new Object[] { new BigDecimal("1000.00"), "000010" },
+				new Object[] { new BigDecimal("2000.00"), "000020" });
+
+		assertEquals("2 x [BigDecimal, String]", JdbcTimingPostProcessor.parameterShape(new Object[] { SQL, batch }));
+	}
+
+
+	@Test
+	public void sqlStatementsAreNotParameters()
+	{
+		// batchUpdate(String...) passes its statements as a String[]
+		Object[] args = { new String[] { "DELETE FROM EMP WHERE EMPNO = '000010'", "DELETE FROM EMP WHERE EMPNO = '000020'" } };
+
+		assertEquals("[]", JdbcTimingPostProcessor.parameterShape(args));
+	}
+
+
+	@Test
+	public void rowCountFromResult()
+	{
+		assertEquals(3, JdbcTimingPostProcessor.rowCount(List.of("a", "b", "c"), null));
+		assertEquals(1, JdbcTimingPostProcessor.rowCount(1, null));
+		assertEquals(3, JdbcTimingPostProcessor.rowCount(new int[] { 1, 0, 2 }, null));
+		assertEquals(4, JdbcTimingPostProcessor.rowCount(new int[][] { { 1, 1 }, { 2 } }, null));
+		assertEquals(-1, JdbcTimingPostProcessor.rowCount(null, null));
+		assertEquals(-1, JdbcTimingPostProcessor.rowCount("result", null));
+	}
+
+
+	@Test
+	public void rowCountFromMapperWhenThereIsOne() throws SQLException
+	{
+		JdbcTimingPostProcessor.TimedRowMapper<Integer> mapper = new JdbcTimingPostProcessor.TimedRowMapper<>((rs, rowNum) -> rowNum);
+		mapper.mapRow(null, 0);
+		mapper.mapRow(null, 1);
+
+		// a query for a single object returns it, not a list, so the mapper is the count
+		assertEquals(2, JdbcTimingPostProcessor.rowCount(1, mapper));
+	}
+}
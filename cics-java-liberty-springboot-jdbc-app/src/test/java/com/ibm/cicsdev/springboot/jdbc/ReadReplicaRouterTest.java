@@ -0,0 +1,189 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+
+/**
+ * Tests which template ReadReplicaRouter sends each read to, with stub templates in place
+ * of the primary and replica datasources
+ */
+public class ReadReplicaRouterTest
+{
+	private final JdbcTemplate primary = new JdbcTemplate();
+	private final JdbcTemplate replica = new JdbcTemplate();
+	private final ReadReplicaRouter router = new ReadReplicaRouter();
+
+
+	public ReadReplicaRouterTest()
+	{
+		ReflectionTestUtils.setField(router, "jdbcTemplate", primary);
+		ReflectionTestUtils.setField(router, "replicaJdbcTemplate", replica);
+		ReflectionTestUtils.setField(router, "readJndiName", "jdbc/replicaDataSource");
+		ReflectionTestUtils.setField(router, "readYourWritesMs", 60000L);
+		ReflectionTestUtils.setField(router, "readRetryAfterMs", 60000L);
+	}
+
+
+	@AfterEach
+	public void endTransaction()
+	{
+		TransactionSynchronizationManager.clear();
+	}
+
+
+	/**
+	 * @return the template a read of the employee, or of the whole table if null, is sent to
+	 */
+	private JdbcTemplate readOf(String empNo)
+	{
+		return router.read(empNo, template -> template);
+	}
+
+
+	private static void beginTransaction()
+	{
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+	}
+
+
+	@Test
+	public void readsGoToTheReplica()
+	{
+		assertSame(replica, readOf("000010"));
+		assertSame(replica, readOf(null));
+	}
+
+
+	@Test
+	public void readsInATransactionGoToThePrimary()
+	{
+		beginTransaction();
+
+		assertSame(primary, readOf("000010"));
+		assertSame(primary, readOf(null));
+	}
+
+
+	@Test
+	public void readsOfAnUpdatedEmployeeGoToThePrimary()
+	{
+		router.recordWrite("000010");
+
+		assertSame(primary, readOf("000010"));
+		assertSame(replica, readOf("000020"));
+		assertSame(primary, router.readMany(List.of("000020", "000010"), template -> template));
+	}
+
+
+	@Test
+	public void fullTableReadsGoToThePrimaryAfterAnyUpdate()
+	{
+		router.recordWrite("000010");
+
+		assertSame(primary, readOf(null));
+	}
+
+
+	@Test
+	public void updatesAreOnlyNotedOnceCommitted()
+	{
+		beginTransaction();
+		router.recordWrite("000010");
+		router.recordWrite("000020");
+
+		// nothing is noted until the transaction commits
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clear();
+		assertSame(replica, readOf("000010"));
+
+		TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+		assertSame(primary, readOf("000010"));
+		assertSame(primary, readOf("000020"));
+	}
+
+
+	@Test
+	public void rolledBackUpdatesAreNotNoted()
+	{
+		beginTransaction();
+		router.recordWrite("000010");
+		TransactionSynchronizationManager.clear();
+
+		assertSame(replica, readOf("000010"));
+		assertSame(replica, readOf(null));
+	}
+
+
+	@Test
+	public void updatesAreIgnoredWhenReadYourWritesIsOff()
+	{
+		ReflectionTestUtils.setField(router, "readYourWritesMs", 0L);
+		router.recordWrite("000010");
+
+		assertSame(replica, readOf("000010"));
+	}
+
+
+	@Test
+	public void replicaFailureIsRetriedOnThePrimary()
+	{
+		AtomicInteger replicaReads = new AtomicInteger();
+		String result = router.read("000010", template ->
+		{
+			if (template == replica)
+			{
+				replicaReads.incrementAndGet();
+				throw new DataAccessResourceFailureException("replica unavailable");
+			}
+			return "primary";
+		});
+
+		assertEquals("primary", result);
+		assertEquals(1, replicaReads.get());
+
+		// the replica is left alone for read-retry-after-ms
+		assertSame(primary, readOf("000020"));
+		assertSame(primary, readOf(null));
+	}
+
+
+	@Test
+	public void otherFailuresAreNotRetried()
+	{
+		AtomicInteger reads = new AtomicInteger();
+
+		assertThrows(DataIntegrityViolationException.class, () -> router.read("000010", template ->
+		{
+			reads.incrementAndGet();
+			throw new DataIntegrityViolationException("bad data");
+		}));
+
+		assertEquals(1, reads.get());
+		assertSame(replica, readOf("000010"));
+	}
+}
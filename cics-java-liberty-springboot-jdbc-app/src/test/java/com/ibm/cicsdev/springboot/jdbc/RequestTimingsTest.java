@@ -0,0 +1,97 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests that RequestTimings are held per thread and shared with threads that join in
+ */
+public class RequestTimingsTest
+{
+	@AfterEach
+	public void clear()
+	{
+		RequestTimings.clear();
+	}
+
+
+	@Test
+	public void nothingIsRecordedUntilStarted()
+	{
+		assertNull(RequestTimings.current());
+
+		RequestTimings timings = RequestTimings.start();
+		assertSame(timings, RequestTimings.current());
+
+		RequestTimings.clear();
+		assertNull(RequestTimings.current());
+	}
+
+
+	@Test
+	public void timesAreAddedUp()
+	{
+		RequestTimings timings = RequestTimings.start();
+		timings.addExecute(100);
+		timings.addExecute(50);
+		timings.addConnection(10);
+		timings.addMapping(20);
+		timings.addSerialize(30);
+
+		assertEquals(150, timings.getExecuteNanos());
+		assertEquals(2, timings.getStatements());
+		assertEquals(10, timings.getConnectionNanos());
+		assertEquals(20, timings.getMappingNanos());
+		assertEquals(30, timings.getSerializeNanos());
+	}
+
+
+	@Test
+	public void otherThreadsAddToTheRequestTheyJoin() throws Exception
+	{
+		RequestTimings timings = RequestTimings.start();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			executor.submit(() ->
+			{
+				RequestTimings.set(timings);
+				try
+				{
+					RequestTimings.current().addExecute(100);
+				}
+				finally
+				{
+					RequestTimings.clear();
+				}
+			}).get();
+
+			// the pooled thread has nothing left behind
+			assertNull(executor.submit(RequestTimings::current).get());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		assertEquals(100, timings.getExecuteNanos());
+		assertEquals(1, timings.getStatements());
+	}
+}
@@ -0,0 +1,209 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+
+/**
+ * Tests the Accept-Encoding negotiation and the compression decisions of ResponseCompressionFilter
+ */
+public class ResponseCompressionFilterTest
+{
+	private static final int THRESHOLD = 100;
+	private static final byte[] LARGE = "{\"empNo\":\"000010\",\"lastName\":\"HAAS\"}".repeat(20).getBytes(StandardCharsets.UTF_8);
+	private static final byte[] SMALL = "{\"empNo\":\"000010\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final ResponseCompressionFilter filter = new ResponseCompressionFilter();
+
+
+	public ResponseCompressionFilterTest()
+	{
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "minResponseSize", THRESHOLD);
+	}
+
+
+	private static MockHttpServletRequest request(String acceptEncoding)
+	{
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/allEmployees");
+		if (acceptEncoding != null)
+		{
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+		return request;
+	}
+
+
+	private MockHttpServletResponse run(String acceptEncoding, FilterChain chain) throws Exception
+	{
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request(acceptEncoding), response, chain);
+		return response;
+	}
+
+
+	private static FilterChain streamBody(byte[] body)
+	{
+		return (request, response) -> response.getOutputStream().write(body);
+	}
+
+
+	private static byte[] readAll(InputStream in) throws IOException
+	{
+		try (in)
+		{
+			return in.readAllBytes();
+		}
+	}
+
+
+	@Test
+	public void encodingPrefersGzip()
+	{
+		assertEquals("gzip", ResponseCompressionFilter.encoding(request("deflate, gzip")));
+		assertEquals("gzip", ResponseCompressionFilter.encoding(request("GZIP;q=0.5")));
+		assertEquals("deflate", ResponseCompressionFilter.encoding(request("br, deflate")));
+	}
+
+
+	@Test
+	public void encodingHonoursRefusals()
+	{
+		assertEquals("deflate", ResponseCompressionFilter.encoding(request("gzip;q=0, deflate")));
+		assertEquals("deflate", ResponseCompressionFilter.encoding(request("gzip ; q=0.000, deflate")));
+		assertNull(ResponseCompressionFilter.encoding(request("gzip;q=0, deflate;q=0")));
+		assertNull(ResponseCompressionFilter.encoding(request("identity")));
+		assertNull(ResponseCompressionFilter.encoding(request(null)));
+	}
+
+
+	@Test
+	public void largeBodyIsGzipped() throws Exception
+	{
+		MockHttpServletResponse response = run("gzip", streamBody(LARGE));
+
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+		assertArrayEquals(LARGE, readAll(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+	}
+
+
+	@Test
+	public void largeBodyIsDeflated() throws Exception
+	{
+		MockHttpServletResponse response = run("deflate", streamBody(LARGE));
+
+		assertEquals("deflate", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(LARGE, readAll(new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+	}
+
+
+	@Test
+	public void bodyWrittenWithWriterIsCompressed() throws Exception
+	{
+		String text = new String(LARGE, StandardCharsets.UTF_8);
+		MockHttpServletResponse response = run("gzip", (request, res) ->
+		{
+			res.setCharacterEncoding("UTF-8");
+			res.setContentLength(LARGE.length);
+			res.getWriter().write(text);
+		});
+
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+		assertArrayEquals(LARGE, readAll(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+	}
+
+
+	@Test
+	public void smallBodyIsSentAsItIs() throws Exception
+	{
+		MockHttpServletResponse response = run("gzip", (request, res) ->
+		{
+			res.setContentLength(SMALL.length);
+			res.getOutputStream().write(SMALL);
+		});
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+		assertEquals(SMALL.length, response.getContentLength());
+		assertArrayEquals(SMALL, response.getContentAsByteArray());
+	}
+
+
+	@Test
+	public void uncompressedResponseStillVaries() throws Exception
+	{
+		MockHttpServletResponse response = run(null, streamBody(LARGE));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+		assertArrayEquals(LARGE, response.getContentAsByteArray());
+	}
+
+
+	@Test
+	public void emptyBodyHasNoContentEncoding() throws Exception
+	{
+		MockHttpServletResponse response = run("gzip", (request, res) ->
+				((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NO_CONTENT));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+
+	@Test
+	public void headResponseHasNoContentEncoding() throws Exception
+	{
+		MockHttpServletRequest request = request("gzip");
+		request.setMethod("HEAD");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, streamBody(LARGE));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+	}
+
+
+	@Test
+	public void alreadyEncodedBodyIsLeftAlone() throws Exception
+	{
+		MockHttpServletResponse response = run("gzip", (request, res) ->
+		{
+			((HttpServletResponse) res).setHeader(HttpHeaders.CONTENT_ENCODING, "br");
+			res.getOutputStream().write(LARGE);
+		});
+
+		assertEquals("br", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertArrayEquals(LARGE, response.getContentAsByteArray());
+	}
+}
@@ -0,0 +1,84 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+package com.ibm.cicsdev.springboot.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+/**
+ * Tests the Server-Timing header written by ServerTimingFilter
+ */
+public class ServerTimingFilterTest
+{
+	private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+	private final ServerTimingFilter filter = new ServerTimingFilter();
+
+
+	@Test
+	public void headerListsEachPhase()
+	{
+		RequestTimings timings = RequestTimings.start();
+		RequestTimings.clear();
+		timings.addConnection(TimeUnit.MICROSECONDS.toNanos(400));
+		timings.addExecute(TimeUnit.MICROSECONDS.toNanos(12100));
+		timings.addMapping(TimeUnit.MICROSECONDS.toNanos(3200));
+		timings.addSerialize(TimeUnit.MICROSECONDS.toNanos(5000));
+
+		assertEquals("db-conn;dur=0.400, db-exec;dur=12.100;desc=\"1 statements\", db-map;dur=3.200, serialize;dur=5.000, total;dur=21.700",
+				ServerTimingFilter.header(timings, TimeUnit.MICROSECONDS.toNanos(21700)));
+	}
+
+
+	@Test
+	public void requestRecordsIntoItsTimings() throws Exception
+	{
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/allEmployees"), response, (request, res) ->
+		{
+			RequestTimings.current().addExecute(TimeUnit.MILLISECONDS.toNanos(2));
+			RequestTimings.current().addExecute(TimeUnit.MILLISECONDS.toNanos(3));
+			res.getOutputStream().write(BODY);
+		});
+
+		String header = response.getHeader("Server-Timing");
+		assertTrue(header.startsWith("db-conn;dur=0.000, db-exec;dur=5.000;desc=\"2 statements\", db-map;dur=0.000, serialize;dur=0.000, total;dur="), header);
+		assertArrayEquals(BODY, response.getContentAsByteArray());
+
+		// the request thread is left with nothing recorded
+		assertNull(RequestTimings.current());
+	}
+
+
+	@Test
+	public void disabledFilterRecordsNothing() throws Exception
+	{
+		ReflectionTestUtils.setField(filter, "enabled", false);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/allEmployees"), response,
+				(request, res) -> assertNull(RequestTimings.current()));
+
+		assertNull(response.getHeader("Server-Timing"));
+	}
+}
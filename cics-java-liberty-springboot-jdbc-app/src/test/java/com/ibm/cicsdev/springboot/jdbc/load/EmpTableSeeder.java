@@ -0,0 +1,84 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+/**
+ * Fills the embedded EMP table with synthetic employees numbered 000001 upwards.
+ *
+ * A fixed random seed is used so every run (and every build) loads the same data.
+ */
+public class EmpTableSeeder
+{
+	private static final String[] FIRST_NAMES = { "CHRISTINE", "MICHAEL", "SALLY", "JOHN", "IRVING", "EVA", "EILEEN", "THEODORE" };
+	private static final String[] LAST_NAMES = { "HAAS", "THOMPSON", "KWAN", "GEYER", "STERN", "PULASKI", "HENDERSON", "SPENSER" };
+	private static final String[] DEPARTMENTS = { "A00", "B01", "C01", "D11", "D21", "E01", "E11", "E21" };
+	private static final String[] JOBS = { "PRES", "MANAGER", "ANALYST", "DESIGNER", "CLERK", "OPERATOR", "FIELDREP" };
+
+	private static final int BATCH_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+
+	/**
+	 * @param jdbcTemplate - template bound to the embedded database
+	 */
+	public EmpTableSeeder(JdbcTemplate jdbcTemplate)
+	{
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+
+	/**
+	 * Replace the contents of the EMP table with synthetic rows
+	 *
+	 * @param rows - number of rows to insert
+	 */
+	public void seed(int rows)
+	{
+		String sql = "insert into emp (EMPNO, FIRSTNME, MIDINIT,LASTNAME,WORKDEPT,PHONENO,HIREDATE,JOB,EDLEVEL,SEX,BIRTHDATE,SALARY,BONUS,COMM) values(?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+		Random random = new Random(42);
+
+		jdbcTemplate.update("DELETE FROM emp");
+
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 1; i <= rows; i++)
+		{
+			batch.add(new Object[] {
+					String.format("%06d", i),
+					FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+					String.valueOf((char) ('A' + random.nextInt(26))),
+					LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+					DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+					String.format("%04d", random.nextInt(10000)),
+					String.format("%04d-%02d-%02d", 1990 + random.nextInt(35), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+					JOBS[random.nextInt(JOBS.length)],
+					12 + random.nextInt(9),
+					random.nextBoolean() ? "M" : "F",
+					String.format("%04d-%02d-%02d", 1950 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+					20000 + random.nextInt(150000),
+					random.nextInt(1000),
+					random.nextInt(4000) });
+
+			if (batch.size() == BATCH_SIZE || i == rows)
+			{
+				jdbcTemplate.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ibm.cicsdev.springboot.jdbc.Application;
+
+
+/**
+ * Load-generation harness.
+ *
+ * Starts the application on an embedded Tomcat against an in-memory H2 EMP table
+ * (the "loadtest" profile), seeds it with synthetic employees and drives the REST
+ * endpoints at a target rate. The table is seeded while the application starts, so
+ * StartupWarmup maps and serializes real rows rather than warming up on an empty table. Results are written as HdrHistogram reports under
+ * target/load-reports/&lt;load.label&gt; so that runs from different builds can be compared.
+ *
+ * Skipped by a normal build - run it with:
+ *
+ *   mvn test -Dload.enabled=true -Dtest=EmployeeLoadTest -Dload.label=build-42 -Dload.baseline=build-41
+ *   gradle test -Dload.enabled=true --tests '*EmployeeLoadTest' -Dload.label=build-42
+ *
+ * See LoadSettings for the other load.* properties.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+public class EmployeeLoadTest
+{
+	@LocalServerPort
+	private int port;
+
+	/**
+	 * Seeds the EMP table once spring.sql.init has created it, before the application is ready
+	 */
+	@TestConfiguration
+	static class SeedConfiguration
+	{
+		@Bean
+		@DependsOnDatabaseInitialization
+		EmpTableSeeder empTableSeeder(JdbcTemplate jdbcTemplate)
+		{
+			EmpTableSeeder seeder = new EmpTableSeeder(jdbcTemplate);
+			seeder.seed(LoadSettings.fromSystemProperties().getRows());
+			return seeder;
+		}
+	}
+
+
+	@Test
+	public void generateLoad() throws Exception
+	{
+		LoadSettings settings = LoadSettings.fromSystemProperties();
+
+		LoadResult result = new LoadGenerator(settings, "http://localhost:" + port).run();
+		result.report();
+
+		assertTrue(result.getTotal().getTotalCount() > 0, "no requests were measured");
+	}
+}
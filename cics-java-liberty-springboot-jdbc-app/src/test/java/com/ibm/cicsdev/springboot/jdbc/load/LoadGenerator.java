@@ -0,0 +1,213 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+
+/**
+ * Drives a weighted mix of requests at a fixed target rate from a pool of client threads.
+ *
+ * Each client sends requests on its own fixed schedule (rate / clients per second). Latency
+ * is measured from the time a request was scheduled to be sent, not from when it was
+ * actually sent, so a stalled server shows up in the percentiles rather than simply
+ * slowing the clients down (coordinated omission). Service time, measured from the actual
+ * send, is recorded separately.
+ *
+ * Throughput is the number of measured requests divided by the time from the start of the
+ * measured phase to the last of them completing, so a server that falls behind the
+ * schedule reports less than the target rate.
+ */
+public class LoadGenerator
+{
+	// Track latencies in microseconds up to one minute, to 3 significant digits
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final LoadSettings settings;
+	private final String baseUrl;
+	private final HttpClient httpClient;
+
+	private final Operation[] operations;
+	private final int[] cumulativeWeights;
+
+	private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+	private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+	private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+	// System.nanoTime() at which the last measured request completed
+	private final AtomicLong lastCompletion = new AtomicLong(Long.MIN_VALUE);
+
+
+	/**
+	 * @param settings - the load run settings
+	 * @param baseUrl - URL of the application under test, e.g. http://localhost:9080/app
+	 */
+	public LoadGenerator(LoadSettings settings, String baseUrl)
+	{
+		this.settings = settings;
+		this.baseUrl = baseUrl;
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+
+		// Build the cumulative weights used to pick an operation for each request
+		Map<Operation, Integer> mix = settings.getMix();
+		this.operations = mix.keySet().toArray(new Operation[0]);
+		this.cumulativeWeights = new int[operations.length];
+
+		int total = 0;
+		for (int i = 0; i < operations.length; i++)
+		{
+			total += mix.get(operations[i]);
+			cumulativeWeights[i] = total;
+
+			responseTimes.put(operations[i], new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+			serviceTimes.put(operations[i], new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+			errors.put(operations[i], new AtomicLong());
+		}
+	}
+
+
+	/**
+	 * Run the warm-up and measured phases, blocking until both complete
+	 *
+	 * @return the measurements taken during the measured phase
+	 * @throws Exception if a client thread fails
+	 */
+	public LoadResult run() throws Exception
+	{
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) * settings.getClients() / settings.getRate();
+		long start = System.nanoTime();
+		long measureStart = start + settings.getWarmup().toNanos();
+		long end = measureStart + settings.getDuration().toNanos();
+
+		ExecutorService clients = Executors.newFixedThreadPool(settings.getClients());
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < settings.getClients(); i++)
+			{
+				// Stagger the clients so requests are spread evenly across each interval
+				long firstSend = start + (intervalNanos * i / settings.getClients());
+				futures.add(clients.submit(() -> drive(firstSend, intervalNanos, measureStart, end)));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			clients.shutdownNow();
+		}
+
+		// Measure up to the last completion, as requests that fell behind finish after the end time
+		long completed = lastCompletion.get();
+		long measuredNanos = completed == Long.MIN_VALUE ? end - measureStart : completed - measureStart;
+
+		return new LoadResult(settings, responseTimes, serviceTimes, errors, measuredNanos);
+	}
+
+
+	/**
+	 * A single client - send requests on a fixed schedule until the end time
+	 */
+	private void drive(long firstSend, long intervalNanos, long measureStart, long end)
+	{
+		for (long intended = firstSend; intended < end; intended += intervalNanos)
+		{
+			long now = System.nanoTime();
+			if (now < intended)
+			{
+				LockSupport.parkNanos(intended - now);
+			}
+
+			Operation op = pickOperation();
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + op.path(settings.getRows())))
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+
+			long sent = System.nanoTime();
+			boolean failed;
+			try
+			{
+				HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+				failed = response.statusCode() >= 400;
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception e)
+			{
+				failed = true;
+			}
+			long done = System.nanoTime();
+
+			// Only requests scheduled after the warm-up are measured
+			if (intended >= measureStart)
+			{
+				record(responseTimes.get(op), done - intended);
+				record(serviceTimes.get(op), done - sent);
+				if (failed)
+				{
+					errors.get(op).incrementAndGet();
+				}
+				lastCompletion.accumulateAndGet(done, Math::max);
+			}
+		}
+	}
+
+
+	private Operation pickOperation()
+	{
+		int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		for (int i = 0; i < cumulativeWeights.length; i++)
+		{
+			if (roll < cumulativeWeights[i])
+			{
+				return operations[i];
+			}
+		}
+
+		return operations[operations.length - 1];
+	}
+
+
+	private static void record(Histogram histogram, long elapsedNanos)
+	{
+		long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+		histogram.recordValue(Math.max(micros, 1));
+	}
+}
@@ -0,0 +1,251 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+
+/**
+ * Measurements from a load run, and the reports written from them.
+ *
+ * Each run writes to its own directory, named by load.label:
+ *
+ *   summary.csv          - throughput (completed requests per second), errors and latency percentiles (ms) per operation
+ *   &lt;endpoint&gt;.hgrm       - full response time percentile distribution per operation
+ *   response-times.hlog  - tagged histogram log, loadable by HistogramLogAnalyzer
+ *
+ * When load.baseline names an earlier run, the summary printed to the console shows
+ * the change in throughput and p99 latency from that run.
+ */
+public class LoadResult
+{
+	private static final String TOTAL = "ALL";
+	private static final String CSV_HEADER = "operation,requests,errors,throughput,p50,p90,p99,p99.9,max";
+	private static final double MICROS_PER_MILLI = 1000.0;
+
+	private final LoadSettings settings;
+	private final Map<Operation, Histogram> responseTimes;
+	private final Map<Operation, Histogram> serviceTimes;
+	private final Map<Operation, AtomicLong> errors;
+	// From the start of the measured phase to the last measured request completing
+	private final long measuredNanos;
+
+
+	LoadResult(LoadSettings settings, Map<Operation, Histogram> responseTimes, Map<Operation, Histogram> serviceTimes,
+			Map<Operation, AtomicLong> errors, long measuredNanos)
+	{
+		this.settings = settings;
+		this.responseTimes = responseTimes;
+		this.serviceTimes = serviceTimes;
+		this.errors = errors;
+		this.measuredNanos = measuredNanos;
+	}
+
+
+	/**
+	 * @return response times of all operations combined
+	 */
+	public Histogram getTotal()
+	{
+		Histogram total = null;
+		for (Histogram histogram : responseTimes.values())
+		{
+			if (total == null)
+			{
+				total = new Histogram(histogram.getHighestTrackableValue(), histogram.getNumberOfSignificantValueDigits());
+			}
+			total.add(histogram);
+		}
+
+		return total;
+	}
+
+
+	/**
+	 * @return number of failed requests across all operations
+	 */
+	public long getErrorCount()
+	{
+		return errors.values().stream().mapToLong(AtomicLong::get).sum();
+	}
+
+
+	/**
+	 * Write the reports for this run and print a summary to the console
+	 *
+	 * @throws IOException if the reports cannot be written
+	 */
+	public void report() throws IOException
+	{
+		Path dir = Paths.get(settings.getOutputDir(), settings.getLabel());
+		Files.createDirectories(dir);
+
+		// summary.csv
+		try (PrintStream csv = new PrintStream(new FileOutputStream(dir.resolve("summary.csv").toFile())))
+		{
+			csv.println(CSV_HEADER);
+			for (Map.Entry<Operation, Histogram> entry : responseTimes.entrySet())
+			{
+				csv.println(csvLine(entry.getKey().getEndpoint(), entry.getValue(), errors.get(entry.getKey()).get()));
+			}
+			csv.println(csvLine(TOTAL, getTotal(), getErrorCount()));
+		}
+
+		// <endpoint>.hgrm - percentile distributions scaled to milliseconds
+		for (Map.Entry<Operation, Histogram> entry : responseTimes.entrySet())
+		{
+			try (PrintStream hgrm = new PrintStream(new FileOutputStream(dir.resolve(entry.getKey().getEndpoint() + ".hgrm").toFile())))
+			{
+				entry.getValue().outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+			}
+		}
+
+		// response-times.hlog - one tagged interval per operation covering the measured phase
+		try (PrintStream log = new PrintStream(new FileOutputStream(dir.resolve("response-times.hlog").toFile())))
+		{
+			HistogramLogWriter writer = new HistogramLogWriter(log);
+			writer.outputComment("load run " + settings);
+			writer.outputLogFormatVersion();
+			writer.outputLegend();
+			for (Map.Entry<Operation, Histogram> entry : responseTimes.entrySet())
+			{
+				Histogram histogram = entry.getValue().copy();
+				histogram.setTag(entry.getKey().getEndpoint());
+				histogram.setStartTimeStamp(0);
+				histogram.setEndTimeStamp(TimeUnit.NANOSECONDS.toMillis(measuredNanos));
+				writer.outputIntervalHistogram(histogram);
+			}
+		}
+
+		printSummary(dir);
+	}
+
+
+	private void printSummary(Path dir) throws IOException
+	{
+		Map<String, String[]> baseline = readBaseline();
+
+		System.out.println();
+		System.out.println("Load run " + settings);
+		System.out.println(String.format("%-18s %9s %7s %9s %9s %9s %9s %9s %9s %9s %9s",
+				"operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99", "vs base"));
+
+		for (Map.Entry<Operation, Histogram> entry : responseTimes.entrySet())
+		{
+			String name = entry.getKey().getEndpoint();
+			printLine(name, entry.getValue(), serviceTimes.get(entry.getKey()), errors.get(entry.getKey()).get(), baseline.get(name));
+		}
+		printLine(TOTAL, getTotal(), null, getErrorCount(), baseline.get(TOTAL));
+
+		System.out.println("Reports written to " + dir.toAbsolutePath());
+		System.out.println();
+	}
+
+
+	private void printLine(String name, Histogram response, Histogram service, long errorCount, String[] base)
+	{
+		double throughput = throughput(response);
+		double p99 = millis(response.getValueAtPercentile(99.0));
+
+		// Compare p99 and throughput with the baseline run, if there is one
+		String delta = "";
+		if (base != null)
+		{
+			double baseThroughput = Double.parseDouble(base[3]);
+			double baseP99 = Double.parseDouble(base[6]);
+			delta = String.format("p99 %+.0f%% tput %+.0f%%",
+					baseP99 == 0 ? 0 : (p99 - baseP99) * 100 / baseP99,
+					baseThroughput == 0 ? 0 : (throughput - baseThroughput) * 100 / baseThroughput);
+		}
+
+		System.out.println(String.format("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9s %s",
+				name,
+				response.getTotalCount(),
+				errorCount,
+				throughput,
+				millis(response.getValueAtPercentile(50.0)),
+				millis(response.getValueAtPercentile(90.0)),
+				p99,
+				millis(response.getValueAtPercentile(99.9)),
+				millis(response.getMaxValue()),
+				service == null ? "" : String.format("%.2f", millis(service.getValueAtPercentile(99.0))),
+				delta));
+	}
+
+
+	private String csvLine(String name, Histogram histogram, long errorCount)
+	{
+		return String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f",
+				name,
+				histogram.getTotalCount(),
+				errorCount,
+				throughput(histogram),
+				millis(histogram.getValueAtPercentile(50.0)),
+				millis(histogram.getValueAtPercentile(90.0)),
+				millis(histogram.getValueAtPercentile(99.0)),
+				millis(histogram.getValueAtPercentile(99.9)),
+				millis(histogram.getMaxValue()));
+	}
+
+
+	/**
+	 * @return the summary.csv rows of the baseline run keyed by operation, empty if there is none
+	 */
+	private Map<String, String[]> readBaseline() throws IOException
+	{
+		Map<String, String[]> rows = new HashMap<>();
+		if (settings.getBaseline() == null)
+		{
+			return rows;
+		}
+
+		Path csv = Paths.get(settings.getOutputDir(), settings.getBaseline(), "summary.csv");
+		if (!Files.exists(csv))
+		{
+			System.out.println("Baseline " + csv + " not found, skipping comparison");
+			return rows;
+		}
+
+		List<String> lines = Files.readAllLines(csv);
+		for (String line : lines.subList(1, lines.size()))
+		{
+			String[] fields = line.split(",");
+			rows.put(fields[0], fields);
+		}
+
+		return rows;
+	}
+
+
+	private double throughput(Histogram histogram)
+	{
+		return histogram.getTotalCount() / (measuredNanos / 1_000_000_000.0);
+	}
+
+
+	private static double millis(long micros)
+	{
+		return micros / MICROS_PER_MILLI;
+	}
+}
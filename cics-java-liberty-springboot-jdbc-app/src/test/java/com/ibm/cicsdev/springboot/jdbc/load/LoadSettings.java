@@ -0,0 +1,207 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * Settings for a load run, read from system properties so that a run can be
+ * configured from the build command line, for example:
+ *
+ *   mvn test -Dload.enabled=true -Dload.rate=500 -Dload.clients=64 -Dload.label=build-42
+ *
+ *   load.rate      - target requests per second across all clients         (default 200)
+ *   load.clients   - number of concurrent client threads                     (default 32)
+ *   load.warmup    - seconds of load before measurement starts               (default 10)
+ *   load.duration  - seconds of measured load                                (default 30)
+ *   load.rows      - number of synthetic rows seeded into the EMP table      (default 1000)
+ *   load.mix       - operation weights, e.g. listEmployee=80,allEmployees=2  (default below)
+ *   load.label     - name of the report directory, e.g. a build number       (default "latest")
+ *   load.outputDir - directory the reports are written to                    (default target/load-reports)
+ *   load.baseline  - label of an earlier run to compare this run against     (optional)
+ */
+public class LoadSettings
+{
+	// Default mix - mostly point reads, a few full scans and multi-gets, the remainder updates
+	private static final String DEFAULT_MIX =
+			"allEmployees=2,listEmployee=60,listEmployees=5,"
+			+ "addEmployee=5,addEmployeeTx=5,"
+			+ "updateEmployee=10,updateEmployeeTx=10,"
+			+ "deleteEmployee=4,deleteEmployeeTx=4";
+
+	private final int rate;
+	private final int clients;
+	private final Duration warmup;
+	private final Duration duration;
+	private final int rows;
+	private final Map<Operation, Integer> mix;
+	private final String label;
+	private final String outputDir;
+	private final String baseline;
+
+
+	/**
+	 * @return settings built from the load.* system properties
+	 */
+	public static LoadSettings fromSystemProperties()
+	{
+		return new LoadSettings(
+				Integer.getInteger("load.rate", 200),
+				Integer.getInteger("load.clients", 32),
+				Duration.ofSeconds(Integer.getInteger("load.warmup", 10)),
+				Duration.ofSeconds(Integer.getInteger("load.duration", 30)),
+				Integer.getInteger("load.rows", 1000),
+				parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+				System.getProperty("load.label", "latest"),
+				System.getProperty("load.outputDir", "target/load-reports"),
+				System.getProperty("load.baseline"));
+	}
+
+
+	private LoadSettings(int rate, int clients, Duration warmup, Duration duration, int rows,
+			Map<Operation, Integer> mix, String label, String outputDir, String baseline)
+	{
+		if (rate <= 0 || clients <= 0 || rows <= 0)
+		{
+			throw new IllegalArgumentException("load.rate, load.clients and load.rows must be greater than zero");
+		}
+
+		this.rate = rate;
+		this.clients = clients;
+		this.warmup = warmup;
+		this.duration = duration;
+		this.rows = rows;
+		this.mix = mix;
+		this.label = label;
+		this.outputDir = outputDir;
+		this.baseline = baseline;
+	}
+
+
+	/**
+	 * @param spec - comma separated list of operation=weight pairs
+	 * @return the weight for each operation named in the list
+	 */
+	static Map<Operation, Integer> parseMix(String spec)
+	{
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+		for (String entry : spec.split(","))
+		{
+			String[] pair = entry.trim().split("=");
+			if (pair.length != 2)
+			{
+				throw new IllegalArgumentException("load.mix entry must be operation=weight: " + entry);
+			}
+
+			int weight = Integer.parseInt(pair[1].trim());
+			if (weight > 0)
+			{
+				weights.put(Operation.fromEndpoint(pair[0].trim()), weight);
+			}
+		}
+
+		if (weights.isEmpty())
+		{
+			throw new IllegalArgumentException("load.mix must give at least one operation a positive weight");
+		}
+
+		return weights;
+	}
+
+
+	/**
+	 * @return target requests per second across all clients
+	 */
+	public int getRate()
+	{
+		return rate;
+	}
+
+	/**
+	 * @return number of concurrent client threads
+	 */
+	public int getClients()
+	{
+		return clients;
+	}
+
+	/**
+	 * @return period of unmeasured load before measurement starts
+	 */
+	public Duration getWarmup()
+	{
+		return warmup;
+	}
+
+	/**
+	 * @return period of measured load
+	 */
+	public Duration getDuration()
+	{
+		return duration;
+	}
+
+	/**
+	 * @return number of synthetic rows seeded into the EMP table
+	 */
+	public int getRows()
+	{
+		return rows;
+	}
+
+	/**
+	 * @return weight of each operation in the request mix
+	 */
+	public Map<Operation, Integer> getMix()
+	{
+		return mix;
+	}
+
+	/**
+	 * @return name of the report directory for this run
+	 */
+	public String getLabel()
+	{
+		return label;
+	}
+
+	/**
+	 * @return directory the reports are written to
+	 */
+	public String getOutputDir()
+	{
+		return outputDir;
+	}
+
+	/**
+	 * @return label of an earlier run to compare against, or null
+	 */
+	public String getBaseline()
+	{
+		return baseline;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "LoadSettings [rate=" + rate +
+				", clients=" + clients +
+				", warmup=" + warmup +
+				", duration=" + duration +
+				", rows=" + rows +
+				", mix=" + mix +
+				", label=" + label + "]";
+	}
+}
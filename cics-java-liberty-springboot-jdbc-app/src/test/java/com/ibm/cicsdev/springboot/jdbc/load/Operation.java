@@ -0,0 +1,106 @@
+/* Licensed Materials - Property of IBM                                   */
+/*                                                                        */
+/* SAMPLE                                                                 */
+/*                                                                        */
+/* (c) Copyright IBM Corp. 2026 All Rights Reserved                       */
+/*                                                                        */
+/* US Government Users Restricted Rights - Use, duplication or disclosure */
+/* restricted by GSA ADP Schedule Contract with IBM Corp                  */
+/*                                                                        */
+
+package com.ibm.cicsdev.springboot.jdbc.load;
+
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * The EmployeeRestController endpoints driven by the load harness.
+ *
+ * Each operation builds a request path against the synthetic EMP table, whose
+ * employee numbers run from 000001 up to the number of seeded rows.
+ */
+public enum Operation
+{
+	ALL_EMPLOYEES("allEmployees"),
+	LIST_EMPLOYEE("listEmployee"),
+	LIST_EMPLOYEES("listEmployees"),
+	ADD_EMPLOYEE("addEmployee"),
+	ADD_EMPLOYEE_TX("addEmployeeTx"),
+	UPDATE_EMPLOYEE("updateEmployee"),
+	UPDATE_EMPLOYEE_TX("updateEmployeeTx"),
+	DELETE_EMPLOYEE("deleteEmployee"),
+	DELETE_EMPLOYEE_TX("deleteEmployeeTx");
+
+	// Number of employees asked for in each /listEmployees call
+	private static final int LIST_EMPLOYEES_SIZE = 50;
+
+	private final String endpoint;
+
+
+	Operation(String endpoint)
+	{
+		this.endpoint = endpoint;
+	}
+
+
+	/**
+	 * @param endpoint - the endpoint name, e.g. listEmployee
+	 * @return the matching operation
+	 */
+	public static Operation fromEndpoint(String endpoint)
+	{
+		for (Operation op : values())
+		{
+			if (op.endpoint.equals(endpoint))
+			{
+				return op;
+			}
+		}
+
+		throw new IllegalArgumentException("unknown endpoint: " + endpoint);
+	}
+
+
+	/**
+	 * @return the endpoint name, used in reports
+	 */
+	public String getEndpoint()
+	{
+		return endpoint;
+	}
+
+
+	/**
+	 * @param rows - number of seeded rows in the EMP table
+	 * @return the request path for a single call to this operation
+	 */
+	public String path(int rows)
+	{
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String empNo = String.format("%06d", random.nextInt(1, rows + 1));
+
+		switch (this)
+		{
+			case ALL_EMPLOYEES:
+				return "/allEmployees";
+			case LIST_EMPLOYEE:
+				return "/listEmployee/" + empNo;
+			case LIST_EMPLOYEES:
+				StringJoiner empNos = new StringJoiner(",");
+				for (int i = 0; i < LIST_EMPLOYEES_SIZE; i++)
+				{
+					empNos.add(String.format("%06d", random.nextInt(1, rows + 1)));
+				}
+				return "/listEmployees/" + empNos;
+			case ADD_EMPLOYEE:
+			case ADD_EMPLOYEE_TX:
+				return "/" + endpoint + "/Load" + random.nextInt(1000) + "/Tester";
+			case UPDATE_EMPLOYEE:
+			case UPDATE_EMPLOYEE_TX:
+				return "/" + endpoint + "/" + empNo + "/" + random.nextInt(20000, 90000);
+			default:
+				return "/" + endpoint + "/" + empNo;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+-- EMP table shaped like the Db2 supplied sample table (DSN81110.EMP)
+CREATE TABLE IF NOT EXISTS EMP
+(
+	EMPNO       CHAR(6)      NOT NULL,
+	FIRSTNME    VARCHAR(12)  NOT NULL,
+	MIDINIT     CHAR(1)      NOT NULL,
+	LASTNAME    VARCHAR(15)  NOT NULL,
+	WORKDEPT    CHAR(3)      DEFAULT NULL,
+	PHONENO     CHAR(4)      DEFAULT NULL,
+	HIREDATE    DATE         DEFAULT NULL,
+	JOB         CHAR(8)      DEFAULT NULL,
+	EDLEVEL     SMALLINT     DEFAULT NULL,
+	SEX         CHAR(1)      DEFAULT NULL,
+	BIRTHDATE   DATE         DEFAULT NULL,
+	SALARY      DECIMAL(9,2) DEFAULT NULL,
+	BONUS       DECIMAL(9,2) DEFAULT NULL,
+	COMM        DECIMAL(9,2) DEFAULT NULL,
+	CONSTRAINT EMPNO PRIMARY KEY (EMPNO),
+	CONSTRAINT NUMBER CHECK (PHONENO >= '0000' AND PHONENO <= '9999'),
+	CONSTRAINT PERSON CHECK (SEX = 'M' OR SEX = 'F')
+);